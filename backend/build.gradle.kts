@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.5"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3" // 마이크로 벤치마크 (src/jmh, ./gradlew jmh)
 }
 
 group = "com.deliveranything"
@@ -53,8 +54,10 @@ dependencies {
     // --- Redis & Cache ---
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.springframework.session:spring-session-data-redis")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310") // 날짜 직렬화
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile") // 이벤트 바이너리 페이로드
 
     // --- JWT ---
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
@@ -110,4 +113,7 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
+    // 재고 경합 벤치마크 설정 전달 (-Dstock.benchmark.store-id=... , StockContentionBenchmarkTest)
+    System.getProperties().filterKeys { it.toString().startsWith("stock.benchmark.") }
+        .forEach { (key, value) -> systemProperty(key.toString(), value) }
 }
\ No newline at end of file
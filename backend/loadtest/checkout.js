@@ -0,0 +1,88 @@
+// 주문 생성(체크아웃) 부하 테스트 - 장바구니 상품 수(1 / 10 / 50)별 응답 시간 비교
+//
+// 실행 예:
+//   k6 run \
+//     -e BASE_URL=http://localhost:8080 \
+//     -e ACCESS_TOKEN=<고객 프로필 access token> \
+//     -e STORE_ID=1 \
+//     -e PRODUCT_IDS=1,2,3,...  (50개 이상, 재고를 충분히 넣어둔 상품) \
+//     backend/loadtest/checkout.js
+//
+// 결과의 http_req_duration{basket:1|10|50} 가 장바구니 크기별 지연 시간이다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ACCESS_TOKEN = __ENV.ACCESS_TOKEN;
+const STORE_ID = Number(__ENV.STORE_ID || 1);
+const PRODUCT_IDS = (__ENV.PRODUCT_IDS || '').split(',').filter(Boolean).map(Number);
+const RATE = Number(__ENV.RATE || 20);         // 장바구니 크기별 초당 주문 수
+const DURATION = __ENV.DURATION || '1m';
+
+const BASKET_SIZES = [1, 10, 50];
+
+function scenario(size, startTime) {
+  return {
+    executor: 'constant-arrival-rate',
+    exec: 'checkout',
+    rate: RATE,
+    timeUnit: '1s',
+    duration: DURATION,
+    preAllocatedVUs: RATE * 2,
+    maxVUs: RATE * 10,
+    startTime,
+    env: { BASKET_SIZE: String(size) },
+    tags: { basket: String(size) },
+  };
+}
+
+// 크기별로 순서대로 실행해 서로 간섭하지 않도록 함
+const durationSeconds = parseInt(DURATION, 10) * (DURATION.endsWith('m') ? 60 : 1);
+export const options = {
+  scenarios: Object.fromEntries(BASKET_SIZES.map((size, i) =>
+      [`basket_${size}`, scenario(size, `${i * (durationSeconds + 10)}s`)])),
+  thresholds: Object.fromEntries(BASKET_SIZES.flatMap((size) => [
+    [`http_req_duration{basket:${size}}`, ['p(95)<500']],
+    [`checks{basket:${size}}`, ['rate>0.99']],
+  ])),
+};
+
+export function setup() {
+  if (!ACCESS_TOKEN) {
+    throw new Error('ACCESS_TOKEN 이 필요합니다.');
+  }
+  if (PRODUCT_IDS.length < Math.max(...BASKET_SIZES)) {
+    throw new Error(`PRODUCT_IDS 는 ${Math.max(...BASKET_SIZES)}개 이상이어야 합니다.`);
+  }
+}
+
+export function checkout() {
+  const size = Number(__ENV.BASKET_SIZE);
+  const offset = Math.floor(Math.random() * (PRODUCT_IDS.length - size + 1));
+  const items = PRODUCT_IDS.slice(offset, offset + size).map((productId) => ({
+    productId,
+    price: 1000,
+    quantity: 1,
+  }));
+  const storePrice = items.length * 1000;
+
+  const res = http.post(`${BASE_URL}/api/v1/customer/orders`, JSON.stringify({
+    storeId: STORE_ID,
+    orderItemRequests: items,
+    address: '서울특별시 강남구 테헤란로 123',
+    lat: 37.5,
+    lng: 127.03,
+    riderNote: '',
+    storeNote: '',
+    totalPrice: storePrice + 3000,
+    storePrice,
+    deliveryPrice: 3000,
+  }), {
+    headers: {
+      'Content-Type': 'application/json',
+      Authorization: `Bearer ${ACCESS_TOKEN}`,
+    },
+  });
+
+  check(res, { 'order created': (r) => r.status === 200 || r.status === 201 });
+}
@@ -0,0 +1,91 @@
+package com.deliveranything.domain.product.stock.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 한 상품에 주문이 몰릴 때 Redis 재고 카운터 처리량
+ * <p>
+ * 스레드 수별로 StockReservationService.adjust(-1) 를 반복 호출한다. DB 낙관적 락 경로(Stock.decreaseQuantity)와의 비교 및 충돌률은
+ * StockContentionBenchmarkTest 에서 측정한다.
+ * <p>
+ * 실행: ./gradlew jmh -Dredis.host=localhost (빈 Redis 를 사용, 끝나면 벤치마크 키를 지움)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class StockCounterBenchmark {
+
+  private static final long PRODUCT_ID = 9_000_000_001L;
+  private static final int INITIAL_QUANTITY = 1_000_000_000;
+
+  private LettuceConnectionFactory connectionFactory;
+  private StringRedisTemplate redisTemplate;
+  private StockReservationService stockReservationService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+        System.getProperty("redis.host", "localhost"),
+        Integer.getInteger("redis.port", 6379)));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+    // adjust / overwrite 는 DB 를 쓰지 않음
+    stockReservationService = new StockReservationService(redisTemplate, null, null);
+  }
+
+  @Setup(Level.Iteration)
+  public void refill() {
+    stockReservationService.overwrite(PRODUCT_ID, INITIAL_QUANTITY);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    redisTemplate.delete("stock:available:" + PRODUCT_ID);
+    redisTemplate.opsForSet().remove("stock:dirty", String.valueOf(PRODUCT_ID));
+    connectionFactory.destroy();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public long decrease_t1() {
+    return stockReservationService.adjust(PRODUCT_ID, -1);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public long decrease_t16() {
+    return stockReservationService.adjust(PRODUCT_ID, -1);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public long decrease_t64() {
+    return stockReservationService.adjust(PRODUCT_ID, -1);
+  }
+
+  @Benchmark
+  @Threads(256)
+  public long decrease_t256() {
+    return stockReservationService.adjust(PRODUCT_ID, -1);
+  }
+}
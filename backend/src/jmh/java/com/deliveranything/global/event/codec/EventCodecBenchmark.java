@@ -0,0 +1,110 @@
+package com.deliveranything.global.event.codec;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.order.event.sse.seller.OrderPaidForSellerEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 이벤트 페이로드 크기 / 인코딩·디코딩 처리량 비교
+ * <p>
+ * - redisJson: 기존 RedisTemplate 값 직렬화 (RedisConfig 와 같은 GenericJackson2JsonRedisSerializer 설정)
+ * <p>
+ * - json: EventFormat.JSON (ObjectMapper)
+ * <p>
+ * - binary: EventFormat.BINARY (Jackson Smile)
+ * <p>
+ * 실행: ./gradlew jmh, 페이로드 크기는 Setup 에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventCodecBenchmark {
+
+  private static final Logger log = LoggerFactory.getLogger(EventCodecBenchmark.class);
+  private static final String BINARY_CHANNEL = "binary-channel";
+
+  @Param({"1", "10", "50"})
+  private int itemCount;
+
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  private final GenericJackson2JsonRedisSerializer redisSerializer =
+      new GenericJackson2JsonRedisSerializer(objectMapper.copy());
+  private final EventCodec eventCodec = new EventCodec(objectMapper,
+      new EventCodecProperties(EventFormat.JSON, Map.of(BINARY_CHANNEL, EventFormat.BINARY)));
+
+  private OrderPaidForSellerEvent event;
+  private byte[] redisJsonPayload;
+  private byte[] jsonPayload;
+  private byte[] binaryPayload;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    List<OrderItemInfo> items = LongStream.rangeClosed(1, itemCount)
+        .mapToObj(i -> new OrderItemInfo(1_000 + i, i % 3 + 1, 12_900L * i))
+        .toList();
+    event = new OrderPaidForSellerEvent(184_223L, items, 5_021L,
+        "서울특별시 강남구 테헤란로 123, 4층", "문 앞에 두고 벨 눌러주세요", 129_000L);
+
+    redisJsonPayload = redisSerializer.serialize(event);
+    jsonPayload = objectMapper.writeValueAsBytes(event);
+    binaryPayload = eventCodec.encode(BINARY_CHANNEL, event);
+    log.info("[items={}] payload bytes - redisJson: {}, json: {}, binary: {}",
+        itemCount, redisJsonPayload.length, jsonPayload.length, binaryPayload.length);
+  }
+
+  @Benchmark
+  public byte[] encodeRedisJson() {
+    return redisSerializer.serialize(event);
+  }
+
+  @Benchmark
+  public byte[] encodeJson() throws Exception {
+    return objectMapper.writeValueAsBytes(event);
+  }
+
+  @Benchmark
+  public byte[] encodeBinary() {
+    return eventCodec.encode(BINARY_CHANNEL, event);
+  }
+
+  @Benchmark
+  public Object decodeRedisJson() {
+    return redisSerializer.deserialize(redisJsonPayload);
+  }
+
+  @Benchmark
+  public OrderPaidForSellerEvent decodeJson() throws Exception {
+    return objectMapper.readValue(jsonPayload, OrderPaidForSellerEvent.class);
+  }
+
+  @Benchmark
+  public OrderPaidForSellerEvent decodeBinary() throws Exception {
+    return eventCodec.decode(binaryPayload, OrderPaidForSellerEvent.class);
+  }
+}
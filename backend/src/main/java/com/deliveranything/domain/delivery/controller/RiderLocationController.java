@@ -1,8 +1,7 @@
 package com.deliveranything.domain.delivery.controller;
 
 import com.deliveranything.domain.delivery.dto.RiderLocationDto;
-import com.deliveranything.domain.delivery.service.RiderLocationService;
-import com.deliveranything.domain.delivery.websocket.RiderWebSocketPublisher;
+import com.deliveranything.domain.delivery.service.RiderLocationIngestionService;
 import com.deliveranything.global.security.auth.SecurityUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,16 +14,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class RiderLocationController {
 
-  private final RiderLocationService riderLocationService;
-  private final RiderWebSocketPublisher webSocketPublisher;
+  private final RiderLocationIngestionService riderLocationIngestionService;
 
   @MessageMapping("/location") // 클라이언트에서 /app/location 으로 전송
   public void updateLocation(
       @Valid @Payload RiderLocationDto location,
       @AuthenticationPrincipal SecurityUser user
   ) {
-    riderLocationService.saveRiderLocation(user.getCurrentActiveProfileIdSafe(), location);
-    webSocketPublisher.publishLocation(user.getCurrentActiveProfileIdSafe(), location);
-    // 서버에서 클라이언트로 /topic/rider/location 으로 전송
+    // 최신 위치만 보관 -> 주기적으로 Redis 일괄 저장 및 /topic/rider/location 으로 전송
+    riderLocationIngestionService.ingest(user.getCurrentActiveProfileIdSafe(), location);
   }
 }
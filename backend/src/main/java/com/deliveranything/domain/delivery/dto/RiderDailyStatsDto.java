@@ -0,0 +1,22 @@
+package com.deliveranything.domain.delivery.dto;
+
+import lombok.Builder;
+
+@Builder
+public record RiderDailyStatsDto(
+    long completedCount,
+    long totalDurationSeconds,
+    long earnedAmount
+) {
+
+  public static final RiderDailyStatsDto EMPTY = new RiderDailyStatsDto(0, 0, 0);
+
+  // 평균 배달 시간 (분 단위, 소수점 첫째 자리까지)
+  public double avgDeliveryMinutes() {
+    if (completedCount == 0) {
+      return 0.0;
+    }
+    double avgMinutes = totalDurationSeconds / 60.0 / completedCount;
+    return Math.round(avgMinutes * 10.0) / 10.0;
+  }
+}
@@ -0,0 +1,13 @@
+package com.deliveranything.domain.delivery.dto.projection;
+
+import java.time.LocalDateTime;
+
+public record CompletedDeliveryStatProjection(
+    Long riderProfileId,
+    Long deliveryId,
+    LocalDateTime startedAt,
+    LocalDateTime completedAt,
+    Long deliveryPrice
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.deliveranything.domain.delivery.dto.projection;
+
+import java.time.LocalDateTime;
+
+public record DeliveredDeliveryProjection(
+    Long deliveryId,
+    Long orderId,
+    String storeName,
+    LocalDateTime completedAt,
+    String customerAddress,
+    Integer deliveryCharge
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.deliveranything.domain.delivery.eta;
+
+import org.springframework.data.geo.Point;
+import reactor.core.publisher.Mono;
+
+// 출발지 -> 도착지 예상 소요 시간(분) 계산 엔진
+// Point 는 Redis GEO 와 동일하게 x = 경도(lon), y = 위도(lat)
+public interface EtaEngine {
+
+  Mono<Double> getEtaMinutes(Point origin, Point destination);
+}
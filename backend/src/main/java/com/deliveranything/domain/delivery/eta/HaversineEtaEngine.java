@@ -0,0 +1,32 @@
+package com.deliveranything.domain.delivery.eta;
+
+import com.deliveranything.global.util.GeoUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+// 외부 API 없이 직선 거리 + 평균 속도로 ETA 추정
+// eta.engine=haversine 이면 단독으로 사용되고, 그 외에는 KakaoEtaEngine 의 fallback 으로 사용
+@Component
+public class HaversineEtaEngine implements EtaEngine {
+
+  @Value("${eta.fallback.speed-kmh:20}")
+  private double speedKmh;
+
+  @Value("${eta.fallback.detour-factor:1.3}")
+  private double detourFactor;
+
+  @Override
+  public Mono<Double> getEtaMinutes(Point origin, Point destination) {
+    return Mono.just(estimate(origin, destination));
+  }
+
+  public double estimate(Point origin, Point destination) {
+    return GeoUtil.estimateMinutes(
+        origin.getY(), origin.getX(),
+        destination.getY(), destination.getX(),
+        speedKmh, detourFactor
+    );
+  }
+}
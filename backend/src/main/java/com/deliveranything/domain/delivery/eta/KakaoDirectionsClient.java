@@ -0,0 +1,43 @@
+package com.deliveranything.domain.delivery.eta;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+// Kakao Mobility 길찾기 API 클라이언트 (WebClient 는 1회만 생성해 재사용)
+@Component
+public class KakaoDirectionsClient {
+
+  private static final String KAKAO_BASE_URL = "https://apis-navi.kakaomobility.com/v1";
+
+  private final WebClient webClient;
+
+  public KakaoDirectionsClient(WebClient.Builder webClientBuilder,
+      @Value("${kakao.api.key}") String kakaoApiKey) {
+    this.webClient = webClientBuilder.clone()
+        .baseUrl(KAKAO_BASE_URL)
+        .defaultHeader("Authorization", "KakaoAK " + kakaoApiKey)
+        .build();
+  }
+
+  // routes[0].summary 반환 (duration: 초, distance: m)
+  public Mono<Map<String, Object>> getRouteSummary(Point origin, Point destination) {
+    return webClient.get()
+        .uri(uriBuilder -> uriBuilder
+            .path("/directions")
+            .queryParam("origin", origin.getX() + "," + origin.getY()) // lon,lat
+            .queryParam("destination", destination.getX() + "," + destination.getY())
+            .build())
+        .retrieve()
+        .bodyToMono(Map.class)
+        .map(response -> {
+          Map<String, Object> routes
+              = (Map<String, Object>) ((List<?>) response.get("routes")).get(0);
+          return (Map<String, Object>) routes.get("summary");
+        });
+  }
+}
@@ -0,0 +1,110 @@
+package com.deliveranything.domain.delivery.eta;
+
+import com.deliveranything.global.util.GeoUtil;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+// Kakao 길찾기 기반 ETA 엔진
+// 1) (출발 셀, 도착 셀) geohash 쌍 단위로 결과를 TTL 캐시
+// 2) 같은 셀 쌍에 대한 동시 요청은 하나의 upstream 호출로 합침 (AsyncCache 가 in-flight future 공유)
+// 3) 동시 upstream 호출 수를 제한하고, 한도 초과/실패 시 HaversineEtaEngine 으로 대체
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "eta.engine", havingValue = "kakao", matchIfMissing = true)
+public class KakaoEtaEngine implements EtaEngine {
+
+  private final KakaoDirectionsClient kakaoDirectionsClient;
+  private final HaversineEtaEngine fallbackEngine;
+  private final MeterRegistry meterRegistry;
+
+  private final AsyncCache<String, Double> etaCache;
+  private final Semaphore upstreamPermits;
+  private final int geohashPrecision;
+  private final Duration upstreamTimeout;
+  private final Timer upstreamTimer;
+
+  public KakaoEtaEngine(
+      KakaoDirectionsClient kakaoDirectionsClient,
+      HaversineEtaEngine fallbackEngine,
+      MeterRegistry meterRegistry,
+      @Value("${eta.cache.geohash-precision:7}") int geohashPrecision,
+      @Value("${eta.cache.ttl:5m}") Duration cacheTtl,
+      @Value("${eta.cache.max-size:50000}") long cacheMaxSize,
+      @Value("${eta.upstream.max-in-flight:32}") int maxInFlight,
+      @Value("${eta.upstream.timeout:2s}") Duration upstreamTimeout
+  ) {
+    this.kakaoDirectionsClient = kakaoDirectionsClient;
+    this.fallbackEngine = fallbackEngine;
+    this.meterRegistry = meterRegistry;
+    this.geohashPrecision = geohashPrecision;
+    this.upstreamTimeout = upstreamTimeout;
+    this.upstreamPermits = new Semaphore(maxInFlight);
+
+    this.etaCache = CaffeineCacheMetrics.monitor(meterRegistry,
+        Caffeine.newBuilder()
+            .expireAfterWrite(cacheTtl)
+            .maximumSize(cacheMaxSize)
+            .recordStats()
+            .buildAsync(),
+        "eta");
+    this.upstreamTimer = Timer.builder("eta.upstream.latency")
+        .description("Kakao 길찾기 API 응답 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Double> getEtaMinutes(Point origin, Point destination) {
+    String cellKey = toCellKey(origin, destination);
+
+    CompletableFuture<Double> future = etaCache.get(cellKey,
+        (key, executor) -> requestUpstream(origin, destination));
+
+    // 취소 전파 차단: 같은 셀 쌍을 기다리는 다른 구독자의 future 를 취소하지 않도록
+    return Mono.fromFuture(future, true)
+        .onErrorResume(e -> {
+          String reason = e instanceof RejectedExecutionException ? "budget" : "error";
+          meterRegistry.counter("eta.fallback", "reason", reason).increment();
+          log.debug("ETA fallback ({}) for {}: {}", reason, cellKey, e.getMessage());
+          return Mono.just(fallbackEngine.estimate(origin, destination));
+        });
+  }
+
+  // 실패한 future 는 AsyncCache 에서 자동 제거되므로 fallback 값은 캐시되지 않음
+  private CompletableFuture<Double> requestUpstream(Point origin, Point destination) {
+    if (!upstreamPermits.tryAcquire()) {
+      return CompletableFuture.failedFuture(
+          new RejectedExecutionException("ETA upstream budget exhausted"));
+    }
+
+    long startNanos = System.nanoTime();
+    return kakaoDirectionsClient.getRouteSummary(origin, destination)
+        .map(summary -> ((Number) summary.get("duration")).doubleValue() / 60.0) // 초 -> 분
+        .timeout(upstreamTimeout)
+        .doFinally(signal -> {
+          upstreamPermits.release();
+          upstreamTimer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+        })
+        .toFuture();
+  }
+
+  private String toCellKey(Point origin, Point destination) {
+    return GeoUtil.geohash(origin.getY(), origin.getX(), geohashPrecision)
+        + ":" + GeoUtil.geohash(destination.getY(), destination.getX(), geohashPrecision);
+  }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 
 @Builder
 public record DeliveryStatusEvent(
+    String eventId, // 발행 시 생성, 알림 중복 처리 방지 키
     Long deliveryId,
     Long orderId,
     Long riderProfileId,
@@ -3,6 +3,7 @@ package com.deliveranything.domain.delivery.event.dto;
 import com.deliveranything.domain.delivery.enums.DeliveryStatus;
 
 public record OrderStatusUpdateEvent(
+    String eventId, // 발행 시 생성, 알림 중복 처리 방지 키
     String orderId,
     Long riderId,
     DeliveryStatus status,
@@ -4,6 +4,8 @@ import com.deliveranything.domain.delivery.event.dto.DeliveryStatusEvent;
 import com.deliveranything.domain.delivery.event.dto.OrderStatusUpdateEvent;
 import com.deliveranything.domain.delivery.event.event.redis.DeliveryStatusRedisPublisher;
 import com.deliveranything.domain.delivery.event.event.redis.OrderDeliveryStatusRedisPublisher;
+import com.deliveranything.domain.delivery.service.RiderLocationService;
+import com.deliveranything.domain.user.profile.event.RiderToggleStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -15,6 +17,7 @@ public class DeliveryEventHandler {
 
   private final DeliveryStatusRedisPublisher deliveryStatusRedisPublisher;
   private final OrderDeliveryStatusRedisPublisher orderDeliveryStatusRedisPublisher; // Kafka → Redis 변경
+  private final RiderLocationService riderLocationService;
 
   // 배달 상태 변경 이벤트 발행
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -27,4 +30,10 @@ public class DeliveryEventHandler {
   public void handleOrderDeliveryStatus(OrderStatusUpdateEvent orderEvent) {
     orderDeliveryStatusRedisPublisher.publish(orderEvent);
   }
-}
\ No newline at end of file
+
+  // 라이더 ON/OFF 변경 시 온라인 라이더 GEO 인덱스 갱신
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handleRiderToggleStatus(RiderToggleStatusChangedEvent event) {
+    riderLocationService.updateRiderAvailability(event.riderProfileId(), event.toggleStatus());
+  }
+}
@@ -3,7 +3,9 @@ package com.deliveranything.domain.delivery.handler.redis;
 import com.deliveranything.domain.delivery.entity.Delivery;
 import com.deliveranything.domain.delivery.event.dto.DeliveryStatusEvent;
 import com.deliveranything.domain.delivery.repository.DeliveryRepository;
+import com.deliveranything.domain.delivery.service.RiderDailyStatsService;
 import com.deliveranything.domain.notification.subscriber.delivery.DeliveryStatusNotifier;
+import com.deliveranything.domain.order.service.DeliveryOrderService;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,7 +18,9 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 @RequiredArgsConstructor
@@ -29,6 +33,10 @@ public class DeliveryStatusRedisSubscriber implements MessageListener {
   private final RedisMessageListenerContainer container;
   private final DeliveryRepository deliveryRepository;
   private final RedisTemplate<String, Object> redisTemplate;
+  private final RiderDailyStatsService riderDailyStatsService;
+  private final DeliveryOrderService deliveryOrderService;
+  // 컨테이너는 프록시가 아닌 this 를 호출하므로 @Transactional 대신 직접 트랜잭션을 연다
+  private final TransactionTemplate transactionTemplate;
 
   @PostConstruct
   public void subscribe() {
@@ -36,14 +44,13 @@ public class DeliveryStatusRedisSubscriber implements MessageListener {
   }
 
   @Override
-  @Transactional
   public void onMessage(Message message, byte[] pattern) {
     try {
       String body = new String(message.getBody());
       DeliveryStatusEvent event = objectMapper.readValue(body, DeliveryStatusEvent.class);
 
       // 1️⃣ 상태 변경 처리
-      handleStatusChange(event);
+      transactionTemplate.executeWithoutResult(status -> handleStatusChange(event));
       // 2️⃣ SSE 알림 전송
       deliveryStatusNotifier.publish(event);
 
@@ -67,10 +74,35 @@ public class DeliveryStatusRedisSubscriber implements MessageListener {
       }
       case COMPLETED -> {
         delivery.updateCompletedAt(LocalDateTime.now());
+        recordRiderDailyStats(delivery);
       }
     }
 
     // Redis 캐시 갱신
     redisTemplate.opsForValue().set("delivery:" + event.deliveryId(), delivery);
   }
-}
\ No newline at end of file
+
+  // 라이더 일일 통계 카운터 반영 (대시보드 O(1) 조회용), 롤백된 완료가 집계되지 않도록 커밋 후 기록
+  private void recordRiderDailyStats(Delivery delivery) {
+    Long riderProfileId = delivery.getRiderProfile().getId();
+    Long deliveryId = delivery.getId();
+    LocalDateTime startedAt = delivery.getStartedAt();
+    LocalDateTime completedAt = delivery.getCompletedAt();
+    Long deliveryPrice = deliveryOrderService.getOrderByDeliveryId(deliveryId).deliveryPrice();
+    runAfterCommit(() -> riderDailyStatsService.recordCompletion(
+        riderProfileId, deliveryId, startedAt, completedAt, deliveryPrice));
+  }
+
+  private void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
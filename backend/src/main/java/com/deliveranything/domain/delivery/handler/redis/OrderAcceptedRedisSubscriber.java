@@ -1,48 +1,35 @@
 package com.deliveranything.domain.delivery.handler.redis;
 
+import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
 import com.deliveranything.domain.delivery.service.OrderNotificationService;
 import com.deliveranything.domain.notification.subscriber.delivery.OrderAcceptedNotifier;
 import com.deliveranything.domain.order.event.OrderAcceptedEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventTransport;
 import jakarta.annotation.PostConstruct;
-import java.util.Objects;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-// 로드 밸런싱 / 다중 인스턴스 환경 대응하여 Redis Pub/Sub 구축
+// 로드 밸런싱 / 다중 인스턴스 환경 대응 - consumer group 으로 한 인스턴스만 처리
 public class OrderAcceptedRedisSubscriber {
 
   private static final String CHANNEL = "order-accepted-event";
-  private final ObjectMapper objectMapper;
-  private final ReactiveStringRedisTemplate redisTemplate;
+  private final EventTransport eventTransport;
   private final OrderAcceptedNotifier orderAcceptedNotifier;
   private final OrderNotificationService orderNotificationService;
 
   @PostConstruct // 애플리케이션 구동 시 자동 실행
   public void subscribeToOrderChannel() {
-    redisTemplate.listenToChannel(CHANNEL) // Redis 채널 구독 시작
-        .map(message -> {
-          try {
-            return objectMapper.readValue(message.getMessage(), OrderAcceptedEvent.class);
-          } catch (JsonProcessingException e) {
-            log.error("Failed to parse Redis message", e);
-            return null;
-          }
-        }) // 수신된 메시지 내용 추출
-        .filter(Objects::nonNull) // null 제거
-        .flatMap(orderNotificationService::processOrderEvent) // 비즈니스 처리
-        .doOnNext(orderAcceptedNotifier::publish) // SSE로 전송
-        .onErrorResume(e -> {
-          log.error("RedisSubscriber error: {}", e.getMessage());
-          return Mono.empty(); // 끊김 방지
-        })
-        .subscribe(); // 실제 구독 실행
+    eventTransport.subscribeWithId(CHANNEL, "delivery", OrderAcceptedEvent.class, this::handle);
+  }
+
+  // 이벤트 소비 스레드(가상 스레드)에서 근처 라이더 조회 완료까지 대기한 뒤 SSE 로 전송
+  private void handle(String eventId, OrderAcceptedEvent event) {
+    List<RiderNotificationDto> riders = orderNotificationService.processOrderEvent(event).block();
+    if (riders != null) {
+      orderAcceptedNotifier.publish(eventId, riders);
+    }
   }
 }
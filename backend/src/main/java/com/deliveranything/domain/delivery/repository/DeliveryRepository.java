@@ -1,5 +1,6 @@
 package com.deliveranything.domain.delivery.repository;
 
+import com.deliveranything.domain.delivery.dto.projection.CompletedDeliveryStatProjection;
 import com.deliveranything.domain.delivery.entity.Delivery;
 import com.deliveranything.domain.delivery.enums.DeliveryStatus;
 import io.lettuce.core.dynamic.annotation.Param;
@@ -9,7 +10,8 @@ import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
+public interface DeliveryRepository extends JpaRepository<Delivery, Long>,
+    DeliveryRepositoryCustom {
 
   @Query("SELECT COUNT(d) FROM Delivery d WHERE d.status = 'COMPLETED' " +
          "AND d.riderProfile.id = :riderProfileId " +
@@ -48,4 +50,33 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
       @Param("riderProfileId") Long riderProfileId,
       @Param("status") DeliveryStatus status
   );
+
+  // 라이더 일일 통계 재계산용 (기간 내 완료 배달 + 주문 배달료)
+  @Query("""
+      SELECT new com.deliveranything.domain.delivery.dto.projection.CompletedDeliveryStatProjection(
+          d.riderProfile.id, d.id, d.startedAt, d.completedAt, o.deliveryPrice)
+      FROM Delivery d
+      JOIN Order o ON o.delivery = d
+      WHERE d.status = 'COMPLETED'
+        AND d.completedAt >= :start AND d.completedAt < :end
+      """)
+  List<CompletedDeliveryStatProjection> findCompletedDeliveryStats(
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end
+  );
+
+  @Query("""
+      SELECT new com.deliveranything.domain.delivery.dto.projection.CompletedDeliveryStatProjection(
+          d.riderProfile.id, d.id, d.startedAt, d.completedAt, o.deliveryPrice)
+      FROM Delivery d
+      JOIN Order o ON o.delivery = d
+      WHERE d.riderProfile.id = :riderProfileId
+        AND d.status = 'COMPLETED'
+        AND d.completedAt >= :start AND d.completedAt < :end
+      """)
+  List<CompletedDeliveryStatProjection> findCompletedDeliveryStatsByRider(
+      @Param("riderProfileId") Long riderProfileId,
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end
+  );
 }
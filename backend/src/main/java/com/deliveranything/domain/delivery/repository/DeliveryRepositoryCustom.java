@@ -0,0 +1,11 @@
+package com.deliveranything.domain.delivery.repository;
+
+import com.deliveranything.domain.delivery.dto.projection.DeliveredDeliveryProjection;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DeliveryRepositoryCustom {
+
+  List<DeliveredDeliveryProjection> findCompletedDeliveriesByRider(Long riderProfileId,
+      boolean latest, LocalDateTime lastCompletedAt, Long lastDeliveryId, int size);
+}
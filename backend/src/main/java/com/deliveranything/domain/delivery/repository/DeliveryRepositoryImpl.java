@@ -0,0 +1,70 @@
+package com.deliveranything.domain.delivery.repository;
+
+import com.deliveranything.domain.delivery.dto.projection.DeliveredDeliveryProjection;
+import com.deliveranything.domain.delivery.entity.QDelivery;
+import com.deliveranything.domain.delivery.enums.DeliveryStatus;
+import com.deliveranything.domain.order.entity.QOrder;
+import com.deliveranything.domain.store.store.entity.QStore;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DeliveryRepositoryImpl implements DeliveryRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  // 완료 배달 keyset 페이징 (completedAt, id)
+  // idx_deliveries_rider_status_completed 인덱스를 타도록 rider/status 동등 조건 + 정렬 컬럼 순서 유지
+  @Override
+  public List<DeliveredDeliveryProjection> findCompletedDeliveriesByRider(Long riderProfileId,
+      boolean latest, LocalDateTime lastCompletedAt, Long lastDeliveryId, int size) {
+    QDelivery delivery = QDelivery.delivery;
+    QOrder order = QOrder.order;
+    QStore store = QStore.store;
+
+    OrderSpecifier<?>[] orderSpecifiers = latest
+        ? new OrderSpecifier[]{delivery.completedAt.desc(), delivery.id.desc()}
+        : new OrderSpecifier[]{delivery.completedAt.asc(), delivery.id.asc()};
+
+    return queryFactory
+        .select(Projections.constructor(DeliveredDeliveryProjection.class,
+            delivery.id,
+            order.id,
+            store.name,
+            delivery.completedAt,
+            order.address,
+            delivery.charge))
+        .from(delivery)
+        .join(delivery.store, store)
+        .join(order).on(order.delivery.eq(delivery))
+        .where(
+            delivery.riderProfile.id.eq(riderProfileId),
+            delivery.status.eq(DeliveryStatus.COMPLETED),
+            cursorCondition(latest, lastCompletedAt, lastDeliveryId)
+        )
+        .orderBy(orderSpecifiers)
+        .limit(size + 1) // hasNext 판단용 +1
+        .fetch();
+  }
+
+  private BooleanExpression cursorCondition(boolean latest, LocalDateTime lastCompletedAt,
+      Long lastDeliveryId) {
+    // 첫 페이지 조회 시 커서 조건 없음
+    if (lastCompletedAt == null || lastDeliveryId == null) {
+      return null;
+    }
+
+    QDelivery delivery = QDelivery.delivery;
+
+    return latest
+        ? delivery.completedAt.lt(lastCompletedAt)
+            .or(delivery.completedAt.eq(lastCompletedAt).and(delivery.id.lt(lastDeliveryId)))
+        : delivery.completedAt.gt(lastCompletedAt)
+            .or(delivery.completedAt.eq(lastCompletedAt).and(delivery.id.gt(lastDeliveryId)));
+  }
+}
@@ -0,0 +1,24 @@
+package com.deliveranything.domain.delivery.scheduler;
+
+import com.deliveranything.domain.delivery.service.RiderLocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RiderLocationSweepScheduler {
+
+  private final RiderLocationService riderLocationService;
+
+  // 일정 시간 위치 수신이 없는 라이더를 GEO 샤드에서 제거 (여러 인스턴스에서 동시에 돌아도 멱등)
+  @Scheduled(fixedDelayString = "${rider.location.sweep-interval:60000}")
+  public void evictStaleRiderLocations() {
+    long evicted = riderLocationService.evictStaleRiders();
+    if (evicted > 0) {
+      log.info("오래된 라이더 위치 {}건 제거", evicted);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.deliveranything.domain.delivery.service;
 
+import com.deliveranything.domain.delivery.dto.RiderDailyStatsDto;
+import com.deliveranything.domain.delivery.dto.projection.DeliveredDeliveryProjection;
 import com.deliveranything.domain.delivery.dto.request.DeliveryAreaRequestDto;
 import com.deliveranything.domain.delivery.dto.request.RiderDecisionRequestDto;
 import com.deliveranything.domain.delivery.dto.request.RiderToggleStatusRequestDto;
@@ -18,6 +20,7 @@ import com.deliveranything.domain.delivery.repository.DeliveryRepository;
 import com.deliveranything.domain.order.dto.OrderResponse;
 import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.service.DeliveryOrderService;
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
 import com.deliveranything.domain.settlement.service.SettlementDetailService;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.user.profile.entity.CustomerProfile;
@@ -35,6 +38,8 @@ import jakarta.validation.Valid;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -51,10 +56,11 @@ public class DeliveryService {
   private final ApplicationEventPublisher eventPublisher;
   private final CustomerProfileService customerProfileService;
   private final SettlementDetailService settlementDetailService;
+  private final RiderDailyStatsService riderDailyStatsService;
 
+  // 상태 변경 후 RiderToggleStatusChangedEvent 발행 -> 온라인 라이더 GEO 인덱스 갱신
   public void updateRiderStatus(Long riderId, RiderToggleStatusRequestDto riderStatusRequestDto) {
-    RiderProfile riderProfile = riderProfileService.getRiderProfileById(riderId);
-    riderProfile.updateToggleStatus(riderStatusRequestDto.riderStatus());
+    riderProfileService.updateDeliveryStatus(riderId, riderStatusRequestDto.riderStatus());
   }
 
   public void updateDeliveryArea(Long riderId, DeliveryAreaRequestDto deliveryAreaRequestDto) {
@@ -68,6 +74,7 @@ public class DeliveryService {
 
     // 이벤트만 발행 - 실제 상태 변경은 구독자에서 처리
     DeliveryStatusEvent event = DeliveryStatusEvent.builder()
+        .eventId(UUID.randomUUID().toString())
         .deliveryId(delivery.getId())
         .orderId(delivery.getStore().getId())
         .riderProfileId(delivery.getRiderProfile().getId())
@@ -88,7 +95,7 @@ public class DeliveryService {
 
     // 이벤트만 발행 - 실제 상태 변경은 구독자에서 처리
     OrderStatusUpdateEvent event = new OrderStatusUpdateEvent(
-        decisionRequestDto.orderId(), currentActiveProfileId, status,
+        UUID.randomUUID().toString(), decisionRequestDto.orderId(), currentActiveProfileId, status,
         decisionRequestDto.etaMinutes());
     eventPublisher.publishEvent(event);
   }
@@ -106,16 +113,17 @@ public class DeliveryService {
         .build();
   }
 
-  // 오늘 라이더의 작업 내역 조회
+  // 오늘 라이더의 작업 내역 조회 (Redis 일일 카운터 기반)
   public TodayDeliveringResponseDto getTodayDeliveringInfo(Long riderProfileId) {
     RiderProfile riderProfile = riderProfileService.getRiderProfileById(riderProfileId);
+    RiderDailyStatsDto todayStats = riderDailyStatsService.getTodayStats(riderProfileId);
 
     return TodayDeliveringResponseDto.builder()
         .now(LocalDateTime.now())
         .currentStatus(riderProfile.getToggleStatus().name())
-        .todayDeliveryCount(getTodayCompletedCountByRider(riderProfileId))
-        .todayEarningAmount(getTodayEarningAmountByRiderId(riderProfileId))
-        .avgDeliveryTime(getAvgDeliveryTimeByRiderId(riderProfileId))
+        .todayDeliveryCount(todayStats.completedCount())
+        .todayEarningAmount(todayStats.earnedAmount())
+        .avgDeliveryTime(todayStats.avgDeliveryMinutes())
         .build();
   }
 
@@ -191,6 +199,7 @@ public class DeliveryService {
   }
 
   // 배달 완료 내역 커서 페이징 조회
+  // (completedAt, deliveryId) keyset 을 DB 쿼리로 내려보내고, 정산 상태는 페이지 단위로 일괄 조회
   private CursorPageResponse<DeliveredDetailsDto> getDeliveredDetailsCursor(
       Long riderProfileId,
       String filter,
@@ -199,7 +208,7 @@ public class DeliveryService {
   ) {
     // 커서 디코딩
     LocalDateTime lastCompletedAt = null;
-    Long lastOrderId = null;
+    Long lastDeliveryId = null;
 
     if (nextPageToken != null) {
       String[] decoded = CursorUtil.decode(nextPageToken);
@@ -207,80 +216,55 @@ public class DeliveryService {
       if (decoded != null && decoded.length == 2) {
         try {
           lastCompletedAt = LocalDateTime.parse(decoded[0]);
-          lastOrderId = Long.parseLong(decoded[1]);
+          lastDeliveryId = Long.parseLong(decoded[1]);
         } catch (Exception e) {
           lastCompletedAt = null;
-          lastOrderId = null;
+          lastDeliveryId = null;
         }
       }
     }
 
-    final LocalDateTime finalLastCompletedAt = lastCompletedAt;
-    final Long finalLastOrderId = lastOrderId;
-
-    // 완료된 배달 조회 (size + 1개 조회하여 hasNext 판단)
-    List<Delivery> allCompletedDeliveries = deliveryRepository
-        .findByRiderProfileIdAndStatus(riderProfileId, DeliveryStatus.COMPLETED);
-
     // 정렬 결정 (filter에 따라 LATEST 또는 OLDEST)
     boolean isLatest = filter == null || "LATEST".equalsIgnoreCase(filter);
 
-    // 정렬 및 필터링
-    List<Delivery> filteredDeliveries = allCompletedDeliveries.stream()
-        .sorted((d1, d2) -> {
-          // 1차: completedAt 기준 정렬 (LATEST: 내림차순, OLDEST: 오름차순)
-          int dateCompare = isLatest
-              ? d2.getCompletedAt().compareTo(d1.getCompletedAt())
-              : d1.getCompletedAt().compareTo(d2.getCompletedAt());
-          if (dateCompare != 0) {
-            return dateCompare;
-          }
-          // 2차: id 기준 정렬
-          return isLatest
-              ? Long.compare(d2.getId(), d1.getId())
-              : Long.compare(d1.getId(), d2.getId());
-        })
-        .filter(d -> {
-          if (finalLastCompletedAt == null) {
-            return true;
-          }
-          int compareDate = d.getCompletedAt().compareTo(finalLastCompletedAt);
-          // 더 이전 날짜
-          if (compareDate < 0) {
-            return true;
-          }
-          if (compareDate == 0 && d.getId() < finalLastOrderId) {
-            return true; // 같은 날짜, 더 작은 ID
-          }
-          return false;
-        })
-        .limit(size + 1) // hasNext 판단용 1개 추가
-        .toList();
+    // 완료된 배달 조회 (size + 1개 조회하여 hasNext 판단)
+    List<DeliveredDeliveryProjection> deliveries = deliveryRepository
+        .findCompletedDeliveriesByRider(riderProfileId, isLatest, lastCompletedAt,
+            lastDeliveryId, size);
 
     // hasNext 판단
-    boolean hasNext = filteredDeliveries.size() > size;
-    List<Delivery> pageDeliveries = hasNext ?
-        filteredDeliveries.subList(0, size) : filteredDeliveries;
+    boolean hasNext = deliveries.size() > size;
+    List<DeliveredDeliveryProjection> pageDeliveries = hasNext ?
+        deliveries.subList(0, size) : deliveries;
+
+    // 페이지 내 주문들의 정산 상태 일괄 조회
+    Map<Long, SettlementStatus> settlementStatuses = settlementDetailService
+        .getRiderSettlementStatuses(
+            pageDeliveries.stream().map(DeliveredDeliveryProjection::orderId).toList(),
+            riderProfileId);
 
-    // DTO 변환 (이미 JOIN FETCH로 Store와 Order를 가져왔으므로 추가 쿼리 없음)
     List<DeliveredDetailsDto> deliveredDetailsList = pageDeliveries.stream()
         .map(delivery -> {
-          OrderResponse order = deliveryOrderService.getOrderByDeliveryId(delivery.getId());
+          SettlementStatus settlementStatus = settlementStatuses.get(delivery.orderId());
+          if (settlementStatus == null) {
+            throw new CustomException(ErrorCode.SETTLEMENT_DETAIL_NOT_FOUND);
+          }
           return DeliveredDetailsDto.builder()
-              .orderId(order.id())
-              .storeName(delivery.getStore().getName())
-              .completedAt(delivery.getCompletedAt())
-              .customerAddress(order.address())
-              .settlementStatus(getCompletedDeliverySettlementStatus(order.id(), riderProfileId))
-              .deliveryCharge(delivery.getCharge())
+              .orderId(delivery.orderId())
+              .storeName(delivery.storeName())
+              .completedAt(delivery.completedAt())
+              .customerAddress(delivery.customerAddress())
+              .settlementStatus(settlementStatus.name())
+              .deliveryCharge(delivery.deliveryCharge())
               .build();
         })
         .toList();
 
     // 다음 페이지 토큰 생성
-    if (hasNext && !deliveredDetailsList.isEmpty()) {
-      DeliveredDetailsDto last = deliveredDetailsList.get(deliveredDetailsList.size() - 1);
-      nextPageToken = CursorUtil.encode(last.completedAt(), last.orderId());
+    nextPageToken = null;
+    if (hasNext && !pageDeliveries.isEmpty()) {
+      DeliveredDeliveryProjection last = pageDeliveries.get(pageDeliveries.size() - 1);
+      nextPageToken = CursorUtil.encode(last.completedAt(), last.deliveryId());
     }
 
     return new CursorPageResponse<>(
@@ -292,38 +276,12 @@ public class DeliveryService {
 
   // === 편의 메서드 ===
 
-  // 오늘 배달 건 수
-  public Long getTodayCompletedCountByRider(Long riderProfileId) {
-    return deliveryRepository.countTodayCompletedDeliveriesByRider(riderProfileId);
-  }
-
-  // 오늘 정산 금액 합계 -> 정산 대기 기준
-  public Long getTodayEarningAmountByRiderId(Long riderProfileId) {
-    return settlementDetailService.getUnsettledDetail(riderProfileId)
-        .scheduledSettleAmount();
-  }
-
   // 특정 배달 건의 정산 상태 조회
   public String getCompletedDeliverySettlementStatus(Long orderId, Long riderProfileId) {
     return settlementDetailService.getRiderSettlementDetail(orderId, riderProfileId)
         .settlementStatus().name();
   }
 
-  // 평균 배달 시간 (분 단위, 소수점 첫째 자리까지)
-  public Double getAvgDeliveryTimeByRiderId(Long riderProfileId) {
-    List<Delivery> completedDeliveries = deliveryRepository
-        .findTodayCompletedDeliveriesByRider(riderProfileId);
-
-    double avgMinutes = completedDeliveries.stream()
-        .filter(d -> d.getStartedAt() != null && d.getCompletedAt() != null)
-        .mapToDouble(d ->
-            Duration.between(d.getStartedAt(), d.getCompletedAt()).getSeconds() / 60.0)
-        .average()
-        .orElse(0.0);
-
-    return Math.round(avgMinutes * 10.0) / 10.0;
-  }
-
   // 남은 예상 시간 계산 (분 단위) -> 지연될 경우 - eta보다 더 걸릴 경우 (0분)으로 표시
   private static double getRemainingTime(Delivery currentDelivery) {
     double remainingTime = 0.0;
@@ -0,0 +1,164 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.dto.RiderDailyStatsDto;
+import com.deliveranything.domain.delivery.dto.projection.CompletedDeliveryStatProjection;
+import com.deliveranything.domain.delivery.repository.DeliveryRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 라이더 일일 배달 통계 카운터 (Redis Hash, 날짜별 키 + 자동 만료)
+// rider:stats:daily:{yyyy-MM-dd}:{riderProfileId} -> completedCount / totalDurationSeconds / earnedAmount
+// 같은 배달이 중복 반영되지 않도록 반영된 deliveryId 를 :deliveries Set 으로 함께 관리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RiderDailyStatsService {
+
+  private static final String KEY_PREFIX = "rider:stats:daily:";
+  private static final String DELIVERIES_SUFFIX = ":deliveries";
+  private static final String FIELD_COUNT = "completedCount";
+  private static final String FIELD_DURATION = "totalDurationSeconds";
+  private static final String FIELD_EARNED = "earnedAmount";
+  private static final Duration TTL = Duration.ofDays(2);
+
+  private static final RedisScript<Long> RECORD_COMPLETION_SCRIPT = RedisScript.of("""
+      if redis.call('SADD', KEYS[2], ARGV[1]) == 0 then
+        return 0
+      end
+      redis.call('HINCRBY', KEYS[1], 'completedCount', 1)
+      redis.call('HINCRBY', KEYS[1], 'totalDurationSeconds', ARGV[2])
+      redis.call('HINCRBY', KEYS[1], 'earnedAmount', ARGV[3])
+      redis.call('EXPIRE', KEYS[1], ARGV[4])
+      redis.call('EXPIRE', KEYS[2], ARGV[4])
+      return 1
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final DeliveryRepository deliveryRepository;
+
+  // 배달 완료 시 카운터 증가 (같은 deliveryId 는 1회만 반영)
+  public void recordCompletion(Long riderProfileId, Long deliveryId, LocalDateTime startedAt,
+      LocalDateTime completedAt, Long earnedAmount) {
+    LocalDate date = completedAt.toLocalDate();
+    redisTemplate.execute(RECORD_COMPLETION_SCRIPT,
+        List.of(statsKey(date, riderProfileId), deliveriesKey(date, riderProfileId)),
+        String.valueOf(deliveryId),
+        String.valueOf(durationSeconds(startedAt, completedAt)),
+        String.valueOf(earnedAmount != null ? earnedAmount : 0L),
+        String.valueOf(TTL.toSeconds()));
+  }
+
+  // 오늘 통계 조회 - O(1), 키가 없으면 DB 에서 재계산
+  public RiderDailyStatsDto getTodayStats(Long riderProfileId) {
+    LocalDate today = LocalDate.now();
+    Map<Object, Object> stats = redisTemplate.opsForHash()
+        .entries(statsKey(today, riderProfileId));
+
+    if (stats.isEmpty()) {
+      return rebuild(riderProfileId, today);
+    }
+    return RiderDailyStatsDto.builder()
+        .completedCount(parseLong(stats.get(FIELD_COUNT)))
+        .totalDurationSeconds(parseLong(stats.get(FIELD_DURATION)))
+        .earnedAmount(parseLong(stats.get(FIELD_EARNED)))
+        .build();
+  }
+
+  // 특정 라이더의 하루 통계를 deliveries 테이블 기준으로 재구성
+  public RiderDailyStatsDto rebuild(Long riderProfileId, LocalDate date) {
+    List<CompletedDeliveryStatProjection> completed = deliveryRepository
+        .findCompletedDeliveryStatsByRider(riderProfileId, date.atStartOfDay(),
+            date.plusDays(1).atStartOfDay());
+    return writeStats(riderProfileId, date, completed);
+  }
+
+  // 하루치 전체 라이더 통계 재구성 (완료 배달이 있는 라이더만)
+  public int rebuildAll(LocalDate date) {
+    Map<Long, List<CompletedDeliveryStatProjection>> byRider = deliveryRepository
+        .findCompletedDeliveryStats(date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+        .stream()
+        .collect(Collectors.groupingBy(CompletedDeliveryStatProjection::riderProfileId));
+
+    byRider.forEach((riderProfileId, completed) -> writeStats(riderProfileId, date, completed));
+    return byRider.size();
+  }
+
+  // 누락된 pub/sub 메시지 등으로 어긋난 카운터 보정
+  @Scheduled(cron = "${rider.stats.reconcile-cron:0 */30 * * * *}")
+  public void reconcileToday() {
+    int riders = rebuildAll(LocalDate.now());
+    log.info("라이더 일일 통계 재구성 완료 - {}명", riders);
+  }
+
+  private RiderDailyStatsDto writeStats(Long riderProfileId, LocalDate date,
+      List<CompletedDeliveryStatProjection> completed) {
+    RiderDailyStatsDto stats = RiderDailyStatsDto.builder()
+        .completedCount(completed.size())
+        .totalDurationSeconds(completed.stream()
+            .mapToLong(d -> durationSeconds(d.startedAt(), d.completedAt()))
+            .sum())
+        .earnedAmount(completed.stream()
+            .mapToLong(d -> d.deliveryPrice() != null ? d.deliveryPrice() : 0L)
+            .sum())
+        .build();
+
+    String statsKey = statsKey(date, riderProfileId);
+    String deliveriesKey = deliveriesKey(date, riderProfileId);
+    String[] deliveryIds = completed.stream()
+        .map(d -> String.valueOf(d.deliveryId()))
+        .toArray(String[]::new);
+
+    // MULTI/EXEC 로 교체해 재구성 도중 읽기가 비어 있는 카운터를 보지 않도록 함
+    redisTemplate.execute(new SessionCallback<List<Object>>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public List<Object> execute(RedisOperations operations) throws DataAccessException {
+        operations.multi();
+        operations.delete(List.of(statsKey, deliveriesKey));
+        operations.opsForHash().putAll(statsKey, Map.of(
+            FIELD_COUNT, String.valueOf(stats.completedCount()),
+            FIELD_DURATION, String.valueOf(stats.totalDurationSeconds()),
+            FIELD_EARNED, String.valueOf(stats.earnedAmount())));
+        if (deliveryIds.length > 0) {
+          operations.opsForSet().add(deliveriesKey, (Object[]) deliveryIds);
+          operations.expire(deliveriesKey, TTL);
+        }
+        operations.expire(statsKey, TTL);
+        return operations.exec();
+      }
+    });
+    return stats;
+  }
+
+  private static long durationSeconds(LocalDateTime startedAt, LocalDateTime completedAt) {
+    if (startedAt == null || completedAt == null) {
+      return 0L;
+    }
+    return Math.max(0L, Duration.between(startedAt, completedAt).getSeconds());
+  }
+
+  private static long parseLong(Object value) {
+    return value != null ? Long.parseLong(value.toString()) : 0L;
+  }
+
+  private static String statsKey(LocalDate date, Long riderProfileId) {
+    return KEY_PREFIX + date + ":" + riderProfileId;
+  }
+
+  private static String deliveriesKey(LocalDate date, Long riderProfileId) {
+    return statsKey(date, riderProfileId) + DELIVERIES_SUFFIX;
+  }
+}
@@ -0,0 +1,113 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.dto.RiderLocationDto;
+import com.deliveranything.domain.delivery.websocket.RiderWebSocketPublisher;
+import com.deliveranything.global.util.GeoUtil;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 라이더 위치 수신 단계
+// 프레임마다 Redis/WebSocket 을 호출하지 않고 라이더별 최신 위치만 메모리에 보관한 뒤
+// - flush-interval 마다 Redis 에 파이프라인으로 일괄 저장
+// - publish-interval 마다 변경된 라이더 위치만 WebSocket 으로 전송
+// 직전 반영 위치에서 min-distance-m 미만으로 움직인 업데이트는 버리되,
+// keepalive 가 지나면 last-seen 갱신을 위해 다시 반영 (정지한 라이더가 stale 로 제거되지 않도록)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RiderLocationIngestionService {
+
+  private final RiderLocationService riderLocationService;
+  private final RiderWebSocketPublisher webSocketPublisher;
+
+  private final Map<Long, RiderLocationDto> pendingFlush = new ConcurrentHashMap<>();
+  private final Map<Long, RiderLocationDto> pendingPublish = new ConcurrentHashMap<>();
+  private final Map<Long, AcceptedLocation> lastAccepted = new ConcurrentHashMap<>();
+
+  @Value("${rider.location.ingest.min-distance-m:10}")
+  private double minDistanceMeters;
+
+  @Value("${rider.location.ingest.keepalive:30s}")
+  private Duration keepalive;
+
+  @Value("${rider.location.stale-ttl:10m}")
+  private Duration staleTtl;
+
+  public void ingest(Long riderProfileId, RiderLocationDto location) {
+    long now = System.currentTimeMillis();
+    boolean[] accepted = {false};
+
+    lastAccepted.compute(riderProfileId, (id, prev) -> {
+      if (prev != null
+          && now - prev.acceptedAtMillis() < keepalive.toMillis()
+          && distanceMeters(prev, location) < minDistanceMeters) {
+        return prev; // 미세 이동 -> 무시
+      }
+      accepted[0] = true;
+      return new AcceptedLocation(location.latitude(), location.longitude(), now);
+    });
+
+    if (accepted[0]) {
+      pendingFlush.put(riderProfileId, location);
+      pendingPublish.put(riderProfileId, location);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${rider.location.ingest.flush-interval:1000}")
+  public void flushToRedis() {
+    Map<Long, RiderLocationDto> batch = drain(pendingFlush);
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      riderLocationService.saveRiderLocations(batch);
+    } catch (Exception e) {
+      log.warn("라이더 위치 {}건 Redis 반영 실패: {}", batch.size(), e.getMessage());
+      // 실패한 위치는 더 최신 위치가 들어오지 않았다면 다음 tick 에 재시도
+      batch.forEach(pendingFlush::putIfAbsent);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${rider.location.ingest.publish-interval:3000}")
+  public void publishDeltas() {
+    drain(pendingPublish).forEach(webSocketPublisher::publishLocation);
+
+    // 오래 수신이 없는 라이더의 필터 상태 정리
+    long cutoff = System.currentTimeMillis() - staleTtl.toMillis();
+    lastAccepted.values().removeIf(accepted -> accepted.acceptedAtMillis() < cutoff);
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flushToRedis();
+  }
+
+  // 키 단위 remove 로 꺼내므로 drain 도중 들어온 최신 위치는 유실되지 않음
+  private Map<Long, RiderLocationDto> drain(Map<Long, RiderLocationDto> source) {
+    Map<Long, RiderLocationDto> drained = new HashMap<>();
+    for (Long riderProfileId : source.keySet()) {
+      RiderLocationDto location = source.remove(riderProfileId);
+      if (location != null) {
+        drained.put(riderProfileId, location);
+      }
+    }
+    return drained;
+  }
+
+  private static double distanceMeters(AcceptedLocation prev, RiderLocationDto location) {
+    return GeoUtil.distanceKm(prev.latitude(), prev.longitude(),
+        location.latitude(), location.longitude()) * 1000.0;
+  }
+
+  private record AcceptedLocation(double latitude, double longitude, long acceptedAtMillis) {
+
+  }
+}
@@ -1,25 +1,269 @@
 package com.deliveranything.domain.delivery.service;
 
 import com.deliveranything.domain.delivery.dto.RiderLocationDto;
-import jakarta.transaction.Transactional;
+import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
+import com.deliveranything.domain.user.profile.repository.RiderProfileRepository;
+import com.deliveranything.global.util.GeoUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+// 라이더 위치 GEO 인덱스
+// - geohash prefix(shard-precision 자리) 단위로 샤딩, 샤드 키는 모두 {geohash} 해시 태그를 붙여 같은 슬롯에 둠
+//   riders:location:{geohash}:all (GEO), riders:location:{geohash}:online (배달 가능(ON) 라이더만, GEO),
+//   riders:location:{geohash}:last-seen (마지막 수신 시각 zset)
+// - 라이더별 현재 샤드 / ON 여부: riders:location:rider:{riderId} (Hash)
+// - 위치 갱신마다 쓰는 키는 해당 라이더 Hash 와 그 샤드 키뿐이고, 전역 키(riders:location:shards)는 샤드를 옮길 때만 씀
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class RiderLocationService {
 
   private final StringRedisTemplate redisTemplate;
+  private final RiderProfileRepository riderProfileRepository;
 
-  public static final String RIDER_GEO_KEY = "riders:location";
+  private static final String SHARD_KEY_PREFIX = "riders:location:{";
+  private static final String ALL_SHARD_KEY_SUFFIX = "}:all";
+  // 배달 가능(ON) 라이더만 담는 GEO 키 -> 반경 검색 시 DB 조회 없이 ON 라이더만 조회
+  private static final String ONLINE_SHARD_KEY_SUFFIX = "}:online";
+  private static final String LAST_SEEN_SHARD_KEY_SUFFIX = "}:last-seen";
+  private static final String RIDER_KEY_PREFIX = "riders:location:rider:{";
+  // 라이더가 한 번이라도 들어온 샤드 (stale 제거 대상), 서비스 지역의 셀 수로 제한되므로 지우지 않음
+  private static final String SHARDS_KEY = "riders:location:shards";
+  public static final String ONLINE_RIDER_SET_KEY = "riders:online";
+
+  // 라이더 Hash 에 새 샤드 기록, {이전 샤드(없으면 ''), ON 여부} 반환 / KEYS: 라이더 Hash
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> MOVE_RIDER_SCRIPT = RedisScript.of("""
+      local state = redis.call('HMGET', KEYS[1], 'shard', 'online')
+      if state[1] ~= ARGV[1] then
+        redis.call('HSET', KEYS[1], 'shard', ARGV[1])
+      end
+      return {state[1] or '', state[2] or '0'}
+      """, List.class);
+
+  // ON / OFF 기록 후 현재 샤드 반환 / KEYS: 라이더 Hash
+  private static final RedisScript<String> SET_ONLINE_SCRIPT = RedisScript.of("""
+      redis.call('HSET', KEYS[1], 'online', ARGV[1])
+      return redis.call('HGET', KEYS[1], 'shard')
+      """, String.class);
+
+  // 전체 샤드의 마지막 위치를 온라인 샤드로 복사 / KEYS: 전체 샤드, 온라인 샤드
+  private static final RedisScript<Long> COPY_TO_ONLINE_SCRIPT = RedisScript.of("""
+      local pos = redis.call('GEOPOS', KEYS[1], ARGV[1])[1]
+      if pos then
+        redis.call('GEOADD', KEYS[2], pos[1], pos[2], ARGV[1])
+        return 1
+      end
+      return 0
+      """, Long.class);
+
+  // 샤드에서 last-seen 이 cutoff 이전인 라이더를 최대 limit 명 제거하고 ID 반환 / KEYS: 전체, 온라인, last-seen
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> EVICT_STALE_SCRIPT = RedisScript.of("""
+      local stale = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+      for _, riderId in ipairs(stale) do
+        redis.call('ZREM', KEYS[1], riderId)
+        redis.call('ZREM', KEYS[2], riderId)
+        redis.call('ZREM', KEYS[3], riderId)
+      end
+      return stale
+      """, List.class);
+
+  // 제거된 샤드가 아직 라이더의 현재 샤드이면 지움 (OFF 라이더는 Hash 자체를 삭제) / KEYS: 라이더 Hash
+  private static final RedisScript<Long> CLEAR_SHARD_SCRIPT = RedisScript.of("""
+      if redis.call('HGET', KEYS[1], 'shard') ~= ARGV[1] then
+        return 0
+      end
+      if redis.call('HGET', KEYS[1], 'online') == '1' then
+        redis.call('HDEL', KEYS[1], 'shard')
+      else
+        redis.call('DEL', KEYS[1])
+      end
+      return 1
+      """, Long.class);
+
+  // precision 5 ≒ 4.9km x 4.9km 셀
+  @Value("${rider.location.shard-precision:5}")
+  private int shardPrecision;
+
+  @Value("${rider.location.stale-ttl:10m}")
+  private Duration staleTtl;
+
+  @Value("${rider.location.evict-batch-size:500}")
+  private int evictBatchSize;
 
   public void saveRiderLocation(Long riderProfileId, RiderLocationDto location) {
-    // Redis GEOADD 명령어를 사용하여 라이더 위치 저장
-    redisTemplate.opsForGeo().add(RIDER_GEO_KEY,
-        new Point(location.longitude(), location.latitude()),
-        String.valueOf(riderProfileId));
+    saveRiderLocations(Map.of(riderProfileId, location));
+  }
+
+  // 여러 라이더 위치를 파이프라인 2회로 저장
+  // 1) 라이더 Hash 마다 새 샤드 기록 (이전 샤드 / ON 여부 확인), 2) 이전 샤드에서 제거 + 새 샤드에 추가
+  public void saveRiderLocations(Map<Long, RiderLocationDto> locations) {
+    if (locations.isEmpty()) {
+      return;
+    }
+    List<Long> riderIds = List.copyOf(locations.keySet());
+    List<String> shards = riderIds.stream()
+        .map(riderId -> GeoUtil.geohash(
+            locations.get(riderId).latitude(), locations.get(riderId).longitude(), shardPrecision))
+        .toList();
+
+    byte[] script = bytes(MOVE_RIDER_SCRIPT.getScriptAsString());
+    String sha = MOVE_RIDER_SCRIPT.getSha1();
+    List<Object> states = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.scriptingCommands().scriptLoad(script);
+      for (int i = 0; i < riderIds.size(); i++) {
+        connection.scriptingCommands().evalSha(sha, ReturnType.MULTI, 1,
+            bytes(riderKey(riderIds.get(i))), bytes(shards.get(i)));
+      }
+      return null;
+    });
+
+    long now = System.currentTimeMillis();
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (int i = 0; i < riderIds.size(); i++) {
+        // states[0] 은 SCRIPT LOAD 결과
+        List<?> state = (List<?>) states.get(i + 1);
+        String prevShard = state.get(0).toString();
+        boolean online = "1".equals(state.get(1).toString());
+        String shard = shards.get(i);
+        byte[] riderId = bytes(String.valueOf(riderIds.get(i)));
+        RiderLocationDto location = locations.get(riderIds.get(i));
+        Point point = new Point(location.longitude(), location.latitude());
+
+        if (!prevShard.equals(shard)) {
+          if (!prevShard.isEmpty()) {
+            connection.zSetCommands().zRem(bytes(allShardKey(prevShard)), riderId);
+            connection.zSetCommands().zRem(bytes(onlineShardKey(prevShard)), riderId);
+            connection.zSetCommands().zRem(bytes(lastSeenShardKey(prevShard)), riderId);
+          }
+          connection.setCommands().sAdd(bytes(SHARDS_KEY), bytes(shard));
+        }
+        connection.zSetCommands().zAdd(bytes(lastSeenShardKey(shard)), now, riderId);
+        connection.geoCommands().geoAdd(bytes(allShardKey(shard)), point, riderId);
+        if (online) {
+          connection.geoCommands().geoAdd(bytes(onlineShardKey(shard)), point, riderId);
+        }
+      }
+      return null;
+    });
+  }
+
+  // 라이더 ON/OFF 상태를 온라인 GEO 인덱스에 반영
+  public void updateRiderAvailability(Long riderProfileId, RiderToggleStatus status) {
+    String riderId = String.valueOf(riderProfileId);
+    boolean online = status == RiderToggleStatus.ON;
+    String shard = redisTemplate.execute(SET_ONLINE_SCRIPT, List.of(riderKey(riderProfileId)),
+        online ? "1" : "0");
+
+    if (online) {
+      redisTemplate.opsForSet().add(ONLINE_RIDER_SET_KEY, riderId);
+      // 마지막 위치가 있으면 온라인 샤드로 복사
+      if (shard != null) {
+        redisTemplate.execute(COPY_TO_ONLINE_SCRIPT,
+            List.of(allShardKey(shard), onlineShardKey(shard)), riderId);
+      }
+    } else {
+      redisTemplate.opsForSet().remove(ONLINE_RIDER_SET_KEY, riderId);
+      if (shard != null) {
+        redisTemplate.opsForZSet().remove(onlineShardKey(shard), riderId);
+      }
+    }
+  }
+
+  // 검색 반경과 겹치는 온라인 샤드 키 목록
+  public List<String> getOnlineShardKeysCovering(double lat, double lon, double radiusKm) {
+    return GeoUtil.geohashesCovering(lat, lon, radiusKm, shardPrecision).stream()
+        .map(RiderLocationService::onlineShardKey)
+        .toList();
+  }
+
+  // staleTtl 동안 위치 수신이 없는 라이더를 인덱스에서 제거, 제거된 라이더 수 반환
+  // 샤드마다 스크립트를 실행해 한 번에 한 슬롯의 키만 건드림
+  public long evictStaleRiders() {
+    Set<String> shards = redisTemplate.opsForSet().members(SHARDS_KEY);
+    if (shards == null) {
+      return 0;
+    }
+    String cutoff = String.valueOf(System.currentTimeMillis() - staleTtl.toMillis());
+    long total = 0;
+    for (String shard : shards) {
+      List<?> stale;
+      do {
+        stale = redisTemplate.execute(EVICT_STALE_SCRIPT,
+            List.of(allShardKey(shard), onlineShardKey(shard), lastSeenShardKey(shard)),
+            cutoff, String.valueOf(evictBatchSize));
+        if (stale == null || stale.isEmpty()) {
+          break;
+        }
+        clearShard(shard, stale);
+        total += stale.size();
+      } while (stale.size() >= evictBatchSize);
+    }
+    return total;
+  }
+
+  private void clearShard(String shard, List<?> riderIds) {
+    byte[] script = bytes(CLEAR_SHARD_SCRIPT.getScriptAsString());
+    String sha = CLEAR_SHARD_SCRIPT.getSha1();
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.scriptingCommands().scriptLoad(script);
+      riderIds.forEach(riderId -> connection.scriptingCommands().evalSha(sha,
+          ReturnType.INTEGER, 1, bytes(RIDER_KEY_PREFIX + riderId + "}"), bytes(shard)));
+      return null;
+    });
+  }
+
+  // 기동 시 DB 의 ON 라이더 기준으로 온라인 인덱스 재구성 (Redis 초기화/유실 대비)
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnlineRiderIndex() {
+    List<Long> onlineRiderIds = riderProfileRepository.findIdsByToggleStatus(
+        RiderToggleStatus.ON);
+    onlineRiderIds.forEach(id -> updateRiderAvailability(id, RiderToggleStatus.ON));
+
+    // DB 상 OFF 인데 인덱스에 남아 있는 라이더 제거
+    Set<String> indexedRiderIds = redisTemplate.opsForSet().members(ONLINE_RIDER_SET_KEY);
+    if (indexedRiderIds != null) {
+      Set<Long> onlineRiderIdSet = new HashSet<>(onlineRiderIds);
+      indexedRiderIds.stream()
+          .filter(id -> !onlineRiderIdSet.contains(Long.parseLong(id)))
+          .forEach(id -> updateRiderAvailability(Long.parseLong(id), RiderToggleStatus.OFF));
+    }
+    log.info("온라인 라이더 GEO 인덱스 재구성 완료 - {}명", onlineRiderIds.size());
+  }
+
+  private static String allShardKey(String shard) {
+    return SHARD_KEY_PREFIX + shard + ALL_SHARD_KEY_SUFFIX;
+  }
+
+  private static String onlineShardKey(String shard) {
+    return SHARD_KEY_PREFIX + shard + ONLINE_SHARD_KEY_SUFFIX;
+  }
+
+  private static String lastSeenShardKey(String shard) {
+    return SHARD_KEY_PREFIX + shard + LAST_SEEN_SHARD_KEY_SUFFIX;
+  }
+
+  private static String riderKey(Long riderProfileId) {
+    return RIDER_KEY_PREFIX + riderProfileId + "}";
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
   }
 }
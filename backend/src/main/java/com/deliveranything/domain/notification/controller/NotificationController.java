@@ -3,12 +3,17 @@ package com.deliveranything.domain.notification.controller;
 import com.deliveranything.domain.notification.entity.Notification;
 import com.deliveranything.domain.notification.repository.EmitterRepository;
 import com.deliveranything.domain.notification.service.NotificationService;
+import com.deliveranything.domain.notification.sse.SseConnection;
+import com.deliveranything.domain.notification.sse.SseConnectionRegistry;
+import com.deliveranything.domain.notification.sse.SseDispatcher;
+import com.deliveranything.domain.notification.sse.SseEvent;
+import com.deliveranything.domain.notification.sse.SseReplayBuffer;
 import com.deliveranything.global.common.ApiResponse;
+import com.deliveranything.global.common.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,42 +33,59 @@ public class NotificationController {
 
   private final NotificationService notificationService;
   private final EmitterRepository emitterRepository;
+  private final SseDispatcher sseDispatcher;
+  private final SseReplayBuffer sseReplayBuffer;
+  private final SseConnectionRegistry sseConnectionRegistry;
 
-  @Operation(summary = "SSE 구독", description = "SSE를 통해 실시간 알림을 구독합니다. 각 기기별로 고유한 deviceId를 헤더(X-Device-ID)에 담아 요청해야 합니다.")
+  @Operation(summary = "SSE 구독", description = "SSE를 통해 실시간 알림을 구독합니다. 각 기기별로 고유한 deviceId를 헤더(X-Device-ID)에 담아 요청해야 합니다. 재연결 시 Last-Event-ID 이후의 놓친 알림을 다시 전송하며, 보관 범위를 벗어난 경우 resync 이벤트를 보냅니다.")
   @GetMapping("/stream")
   public SseEmitter subscribe(
       @Parameter(description = "구독할 사용자의 프로필 ID") @RequestParam Long profileId,
       @Parameter(description = "구독하는 기기의 고유 ID", required = true, in = ParameterIn.HEADER)
-      @RequestHeader("X-Device-ID") String deviceId
+      @RequestHeader("X-Device-ID") String deviceId,
+      @Parameter(description = "마지막으로 수신한 이벤트 ID (재연결 시 브라우저가 자동 전송)", in = ParameterIn.HEADER)
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
       // @AuthenticationPrincipal CustomUserDetails userDetails <-- 추후 적용
   ) {
     SseEmitter emitter = new SseEmitter(60 * 1000L);
-    emitterRepository.save(profileId, deviceId, emitter);
+    SseConnection connection = new SseConnection(profileId, deviceId, emitter);
+    emitterRepository.save(connection);
+    sseConnectionRegistry.register(profileId, deviceId);
 
-    // 연결 종료 시 Emitter 제거
-    emitter.onCompletion(() -> emitterRepository.remove(profileId, deviceId));
-    emitter.onTimeout(() -> emitterRepository.remove(profileId, deviceId));
+    // 연결 종료 시 연결 제거 및 대기 중 이벤트 정리
+    Runnable cleanup = () -> {
+      if (emitterRepository.remove(connection)) {
+        sseConnectionRegistry.unregister(profileId, deviceId);
+      }
+      sseDispatcher.close(connection);
+    };
+    emitter.onCompletion(cleanup);
+    emitter.onTimeout(cleanup);
+    emitter.onError(e -> cleanup.run());
 
-    // 최초 연결 확인 이벤트 전송
-    try {
-      emitter.send(
-          SseEmitter.event().name("connect").data("SSE connected with deviceId: " + deviceId));
-    } catch (Exception e) {
-      emitterRepository.remove(profileId, deviceId);
-    }
+    // 최초 연결 확인 이벤트 전송 (전송 대기열 경유)
+    sseDispatcher.dispatch(connection,
+        SseEvent.of(null, "connect", "SSE connected with deviceId: " + deviceId));
+
+    // 재연결 공백 동안 놓친 이벤트 재전송
+    // 연결 등록 후 조회하므로 경계의 이벤트가 중복될 수는 있어도 누락되지는 않음 (클라이언트는 이벤트 ID 로 중복 제거)
+    sseReplayBuffer.replaySince(profileId, lastEventId)
+        .forEach(event -> sseDispatcher.dispatch(connection, event));
 
     return emitter;
   }
 
-  @Operation(summary = "알림 목록 조회", description = "사용자의 알림 목록을 조회합니다. isRead 파라미터로 읽음/안읽음 필터링이 가능합니다.")
+  @Operation(summary = "알림 목록 조회", description = "사용자의 알림 목록을 최신순으로 조회합니다. isRead 파라미터로 읽음/안읽음 필터링이 가능하며, cursor 기반 페이징을 지원합니다.")
   @GetMapping
-  public ResponseEntity<ApiResponse<List<Notification>>> getNotifications(
+  public ResponseEntity<ApiResponse<CursorPageResponse<Notification>>> getNotifications(
       @Parameter(description = "조회할 사용자의 프로필 ID") @RequestParam Long profileId,
-      @Parameter(description = "읽음 상태 필터 (true: 읽음, false: 안읽음, 미포함: 전체)") @RequestParam(required = false) Boolean isRead
+      @Parameter(description = "읽음 상태 필터 (true: 읽음, false: 안읽음, 미포함: 전체)") @RequestParam(required = false) Boolean isRead,
+      @Parameter(description = "다음 페이지 커서 (첫 페이지는 미포함)") @RequestParam(required = false) String cursor,
+      @Parameter(description = "페이지 크기 (1~100, 범위를 벗어나면 가까운 값으로 보정)") @RequestParam(required = false, defaultValue = "20") Integer size
       // @AuthenticationPrincipal CustomUserDetails userDetails <-- 추후 적용
   ) {
-    return ResponseEntity.ok(
-        ApiResponse.success(notificationService.getNotifications(profileId, isRead)));
+    return ResponseEntity.ok(ApiResponse.success(
+        notificationService.getNotifications(profileId, isRead, cursor, size)));
   }
 
   @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음으로 표시합니다.")
@@ -77,6 +99,15 @@ public class NotificationController {
     return ResponseEntity.ok(ApiResponse.success());
   }
 
+  @Operation(summary = "알림 전체 읽음 처리", description = "사용자의 읽지 않은 알림을 모두 읽음으로 표시합니다. 처리된 알림 수를 반환합니다.")
+  @PostMapping("/read-all")
+  public ResponseEntity<ApiResponse<Integer>> markAllAsRead(
+      @Parameter(description = "사용자 프로필 ID") @RequestParam Long profileId
+      // @AuthenticationPrincipal CustomUserDetails userDetails <-- 추후 적용
+  ) {
+    return ResponseEntity.ok(ApiResponse.success(notificationService.markAllAsRead(profileId)));
+  }
+
   @Operation(summary = "읽지 않은 알림 수 조회", description = "사용자의 읽지 않은 알림 수를 조회합니다.")
   @GetMapping("/unread-count")
   public ResponseEntity<ApiResponse<Long>> getUnreadCount(
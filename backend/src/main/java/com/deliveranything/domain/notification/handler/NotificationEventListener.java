@@ -1,12 +1,12 @@
 package com.deliveranything.domain.notification.handler;
 
 import com.deliveranything.domain.notification.repository.EmitterRepository;
+import com.deliveranything.domain.notification.sse.SseConnection;
 import com.deliveranything.domain.user.user.event.UserLoggedOutEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Component
@@ -23,11 +23,11 @@ public class NotificationEventListener {
         "Handling user logout event for profileId: {}, deviceId: {}. Attempting to terminate specific SSE connection.",
         profileId, deviceId);
 
-    SseEmitter emitter = emitterRepository.get(profileId, deviceId);
+    SseConnection connection = emitterRepository.get(profileId, deviceId);
 
-    if (emitter != null) {
+    if (connection != null) {
       try {
-        emitter.complete();
+        connection.getEmitter().complete();
         log.info("SSE connection for profileId: {}, deviceId: {} successfully completed.",
             profileId, deviceId);
       } catch (Exception e) {
@@ -1,84 +1,102 @@
 package com.deliveranything.domain.notification.repository;
 
+import com.deliveranything.domain.notification.sse.SseConnection;
+import com.deliveranything.domain.notification.sse.SseConnectionListener;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Component
+@RequiredArgsConstructor
 public class EmitterRepository {
 
-  // 이중 맵 구조: profileId -> (deviceId -> SseEmitter)
-  private final Map<Long, Map<String, SseEmitter>> profileEmitters = new ConcurrentHashMap<>();
+  // 이중 맵 구조: profileId -> (deviceId -> SseConnection)
+  private final Map<Long, Map<String, SseConnection>> profileConnections = new ConcurrentHashMap<>();
+  // 연결 저장 / 제거 시 알림 받을 컴포넌트 (하트비트 등)
+  private final List<SseConnectionListener> listeners;
 
   /**
-   * Emitter 저장
+   * 연결 저장
    *
-   * @param profileId 사용자 프로필 ID
-   * @param deviceId  기기 ID
-   * @param emitter   SseEmitter 객체
+   * @param connection SseEmitter 와 전송 대기열을 묶은 연결 객체
    */
-  public void save(Long profileId, String deviceId, SseEmitter emitter) {
+  public void save(SseConnection connection) {
     // profileId에 해당하는 맵이 없으면 새로 생성
-    profileEmitters.computeIfAbsent(profileId, k -> new ConcurrentHashMap<>())
-        .put(deviceId, emitter);
+    SseConnection replaced = profileConnections
+        .computeIfAbsent(connection.getProfileId(), k -> new ConcurrentHashMap<>())
+        .put(connection.getDeviceId(), connection);
+    if (replaced != null && replaced != connection) {
+      listeners.forEach(listener -> listener.onRemoved(replaced));
+    }
+    listeners.forEach(listener -> listener.onSaved(connection));
   }
 
   /**
-   * 특정 Emitter 제거
+   * 특정 연결 제거
    *
    * @param profileId 사용자 프로필 ID
    * @param deviceId  기기 ID
    */
   public void remove(Long profileId, String deviceId) {
-    Map<String, SseEmitter> deviceEmitters = profileEmitters.get(profileId);
-    if (deviceEmitters != null) {
-      deviceEmitters.remove(deviceId);
+    SseConnection[] removed = {null};
+    profileConnections.computeIfPresent(profileId, (id, deviceConnections) -> {
+      removed[0] = deviceConnections.remove(deviceId);
       // 해당 profileId에 더 이상 연결된 device가 없으면 바깥쪽 맵에서도 제거
-      if (deviceEmitters.isEmpty()) {
-        profileEmitters.remove(profileId);
-      }
+      return deviceConnections.isEmpty() ? null : deviceConnections;
+    });
+    if (removed[0] != null) {
+      listeners.forEach(listener -> listener.onRemoved(removed[0]));
     }
   }
 
   /**
-   * 특정 사용자의 모든 Emitter 조회 (알림 발송 시 사용)
+   * 특정 연결이 아직 등록되어 있을 때만 제거 (같은 기기의 재연결을 지우지 않도록)
    *
-   * @param profileId 사용자 프로필 ID
-   * @return 해당 사용자의 모든 SseEmitter 목록
+   * @param connection 제거할 연결 객체
+   * @return 실제로 제거되었는지 여부
    */
-  public List<SseEmitter> getAllForProfile(Long profileId) {
-    Map<String, SseEmitter> deviceEmitters = profileEmitters.get(profileId);
-    if (deviceEmitters != null) {
-      return new ArrayList<>(deviceEmitters.values());
+  public boolean remove(SseConnection connection) {
+    boolean[] removed = {false};
+    profileConnections.computeIfPresent(connection.getProfileId(), (id, deviceConnections) -> {
+      removed[0] = deviceConnections.remove(connection.getDeviceId(), connection);
+      return deviceConnections.isEmpty() ? null : deviceConnections;
+    });
+    if (removed[0]) {
+      listeners.forEach(listener -> listener.onRemoved(connection));
     }
-    return new ArrayList<>(); // 비어있는 리스트 반환
+    return removed[0];
   }
 
   /**
-   * 특정 profileId와 deviceId에 해당하는 Emitter 조회
+   * 특정 사용자의 모든 연결 조회 (알림 발송 시 사용)
    *
    * @param profileId 사용자 프로필 ID
-   * @param deviceId  기기 ID
-   * @return 해당 SseEmitter 객체 또는 null
+   * @return 해당 사용자의 모든 SseConnection 목록
    */
-  public SseEmitter get(Long profileId, String deviceId) {
-    Map<String, SseEmitter> deviceEmitters = profileEmitters.get(profileId);
-    if (deviceEmitters != null) {
-      return deviceEmitters.get(deviceId);
+  public List<SseConnection> getAllForProfile(Long profileId) {
+    Map<String, SseConnection> deviceConnections = profileConnections.get(profileId);
+    if (deviceConnections != null) {
+      return new ArrayList<>(deviceConnections.values());
     }
-    return null;
+    return new ArrayList<>(); // 비어있는 리스트 반환
   }
 
   /**
-   * 모든 Emitter 조회 (하트비트 발송 시 사용)
+   * 특정 profileId와 deviceId에 해당하는 연결 조회
    *
-   * @return 전체 SseEmitter 맵
+   * @param profileId 사용자 프로필 ID
+   * @param deviceId  기기 ID
+   * @return 해당 SseConnection 객체 또는 null
    */
-  public Map<Long, Map<String, SseEmitter>> getAllEmitters() {
-    return new ConcurrentHashMap<>(profileEmitters);
+  public SseConnection get(Long profileId, String deviceId) {
+    Map<String, SseConnection> deviceConnections = profileConnections.get(profileId);
+    if (deviceConnections != null) {
+      return deviceConnections.get(deviceId);
+    }
+    return null;
   }
 
 }
@@ -1,19 +1,40 @@
 package com.deliveranything.domain.notification.repository;
 
 import com.deliveranything.domain.notification.entity.Notification;
+import java.time.LocalDateTime;
 import java.util.List;
-import org.springframework.data.jpa.repository.JpaRepository;
-
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-  List<Notification> findByRecipientIdOrderByCreatedAtDesc(Long profileId);
-
-  List<Notification> findByRecipientIdAndIsReadOrderByCreatedAtDesc(Long profileId, boolean isRead);
+  // 알림함 커서 페이징 (createdAt, id) 내림차순 - idx_notification_recipient_id_created_at 사용
+  @Query("""
+      SELECT n FROM Notification n
+      WHERE n.recipientId = :recipientId
+        AND (:isRead IS NULL OR n.isRead = :isRead)
+        AND (:lastCreatedAt IS NULL
+          OR n.createdAt < :lastCreatedAt
+          OR (n.createdAt = :lastCreatedAt AND n.id < :lastId))
+      ORDER BY n.createdAt DESC, n.id DESC
+      """)
+  List<Notification> findInboxPage(
+      @Param("recipientId") Long recipientId,
+      @Param("isRead") Boolean isRead,
+      @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+      @Param("lastId") Long lastId,
+      Pageable pageable);
 
   Optional<Notification> findByIdAndRecipientId(Long id, Long profileId);
 
   long countByRecipientIdAndIsReadFalse(Long profileId);
-}
 
+  // 전체 읽음 처리 (UPDATE 1회)
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipientId = :recipientId AND n.isRead = false")
+  int markAllAsRead(@Param("recipientId") Long recipientId);
+}
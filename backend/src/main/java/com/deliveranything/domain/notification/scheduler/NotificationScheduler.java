@@ -1,16 +1,22 @@
 package com.deliveranything.domain.notification.scheduler;
 
-import com.deliveranything.domain.user.profile.entity.Profile;
-import com.deliveranything.domain.user.profile.repository.ProfileRepository;
+import com.deliveranything.domain.notification.service.HourlyNotificationCounter;
 import com.deliveranything.domain.user.user.entity.User;
 import com.deliveranything.domain.user.user.repository.UserRepository;
 import com.deliveranything.global.infra.SmsService;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -19,79 +25,140 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class NotificationScheduler {
 
+  private static final String PARTITION_LOCK_PREFIX = "notifications:hourly:lock:";
+
+  // 본인이 잡은 락만 해제
+  private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
   private final UserRepository userRepository;
-  private final ProfileRepository profileRepository;
-  private final RedisTemplate<String, String> redisTemplate;
+  private final StringRedisTemplate redisTemplate;
+  private final HourlyNotificationCounter hourlyNotificationCounter;
   private final SmsService smsService;
 
-  // 1시간마다 실행
-  @Scheduled(cron = "0 0 * * * *")
-  public void sendReviewNotificationsHourly() {
-    log.info("===== 1시간 알림 스케줄 시작 =====");
+  @Value("${notification.digest.batch-size:500}")
+  private int batchSize;
 
-    // 1. SMS 발송 대상 사용자 조회 (판매자 + 라이더 등)
-    List<User> allUsers = userRepository.findAll();
+  @Value("${notification.digest.lock-ttl:50m}")
+  private Duration lockTtl;
 
-    for (User user : allUsers) {
-      // 유저가 가진 모든 프로필 조회
-      List<Profile> profiles = profileRepository.findAllByUser(user);
+  @Value("${notification.digest.sms-concurrency:16}")
+  private int smsConcurrency;
 
-      Map<String, Integer> totalCounts = new HashMap<>();
+  @Value("${notification.digest.sms-rate-per-second:50}")
+  private int smsRatePerSecond;
 
-      for (Profile profile : profiles) {
-        String redisKey = "notifications:hourly:profile:" + profile.getId();
+  // 1시간마다 실행
+  // 모든 노드가 동시에 실행하되, 파티션 락을 잡은 노드만 해당 파티션을 처리
+  @Scheduled(cron = "0 0 * * * *")
+  public void sendReviewNotificationsHourly() {
+    log.info("===== 1시간 알림 스케줄 시작 =====");
 
-        // 2. Redis 에서 해당 프로필의 알림 카운트 조회
-        Map<Object, Object> counts = redisTemplate.opsForHash().entries(redisKey);
+    int partitions = hourlyNotificationCounter.getPartitions();
+    // 노드마다 시작 파티션을 달리해 락 경합을 줄임
+    int offset = ThreadLocalRandom.current().nextInt(partitions);
+    int processed = 0;
 
-        counts.forEach((type, count) -> {
-          int value = count != null ? Integer.parseInt(count.toString()) : 0;
-          String key = type.toString() + ":" + profile.getType().name();
-          totalCounts.merge(key, value, Integer::sum);
-        });
+    for (int i = 0; i < partitions; i++) {
+      int partition = (offset + i) % partitions;
+      String lockKey = PARTITION_LOCK_PREFIX + partition;
+      String lockValue = UUID.randomUUID().toString();
 
-        // 3. 한 프로필 처리 후 Redis 초기화
-        if (!counts.isEmpty()) {
-          redisTemplate.delete(redisKey);
-        }
+      if (!Boolean.TRUE.equals(
+          redisTemplate.opsForValue().setIfAbsent(lockKey, lockValue, lockTtl))) {
+        continue; // 다른 노드가 처리 중
+      }
+      try {
+        processed += processPartition(partition);
+      } catch (Exception e) {
+        log.error("1시간 알림 파티션 {} 처리 실패", partition, e);
+      } finally {
+        redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockValue);
       }
+    }
+
+    log.info("===== 1시간 단위 알림 스케줄러 종료 - 사용자 {}명 처리 =====", processed);
+  }
 
-      // 4. 합산된 결과로 SMS 발송
-      if (!totalCounts.isEmpty()) {
-        StringBuilder message = new StringBuilder("지난 1시간 동안 새 알림: ");
-
-        totalCounts.forEach((key, count) -> {
-          String[] parts = key.split(":");
-          String type = parts[0];
-          String profileType = parts[1];
-          String displayType = switch (type) {
-            case "NEW_REVIEW" -> displayType = "리뷰";
-            // 1시간 집계 알림 확장 시 추가 요망
-            default -> displayType = type;
-          };
-
-          message.append(displayType)
-              .append("(")
-              .append(profileType)
-              .append(") ")
-              .append(count)
-              .append("건, ");
-        });
-
-        // 마지막 쉼표 제거
-        if (message.length() > 2) {
-          message.setLength(message.length() - 2);
+  private int processPartition(int partition) {
+    int processed = 0;
+    // 발송은 가상 스레드에서 병렬로, 동시 발송 수와 초당 발송 수를 제한
+    try (ExecutorService smsExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Semaphore inFlight = new Semaphore(smsConcurrency);
+      long pacingNanos = 1_000_000_000L / Math.max(1, smsRatePerSecond);
+
+      List<Long> userIds;
+      while (!(userIds = hourlyNotificationCounter.popDirtyUserIds(partition, batchSize))
+          .isEmpty()) {
+        processed += userIds.size();
+
+        // 1. 배치 단위로 카운터 조회 + 삭제 (파이프라인), 카운터는 이미 사용자별로 합산되어 있음
+        Map<Long, Map<String, Integer>> countsByUser =
+            hourlyNotificationCounter.drainCounts(userIds);
+        if (countsByUser.isEmpty()) {
+          continue;
         }
 
-        try {
-          smsService.sendSms(user.getPhoneNumber(), message.toString());
-          log.info("SMS 전송 완료: {}, 내용: {}", user.getPhoneNumber(), message);
-        } catch (Exception e) {
-          log.error("SMS 전송 실패: {}", user.getPhoneNumber(), e);
+        // 2. 배치의 사용자를 한 번에 조회해 SMS 발송
+        for (User user : userRepository.findAllById(countsByUser.keySet())) {
+          String phoneNumber = user.getPhoneNumber();
+          String message = buildMessage(countsByUser.get(user.getId()));
+
+          inFlight.acquireUninterruptibly();
+          smsExecutor.execute(() -> {
+            try {
+              smsService.sendSms(phoneNumber, message);
+              log.info("SMS 전송 완료: {}, 내용: {}", phoneNumber, message);
+            } catch (Exception e) {
+              log.error("SMS 전송 실패: {}", phoneNumber, e);
+            } finally {
+              inFlight.release();
+            }
+          });
+          pace(pacingNanos);
         }
       }
     }
+    return processed;
+  }
 
-    log.info("===== 1시간 단위 알림 스케줄러 종료 =====");
+  private String buildMessage(Map<String, Integer> totalCounts) {
+    StringBuilder message = new StringBuilder("지난 1시간 동안 새 알림: ");
+
+    totalCounts.forEach((key, count) -> {
+      String[] parts = key.split(":");
+      String type = parts[0];
+      String profileType = parts[1];
+      String displayType = switch (type) {
+        case "NEW_REVIEW" -> "리뷰";
+        // 1시간 집계 알림 확장 시 추가 요망
+        default -> type;
+      };
+
+      message.append(displayType)
+          .append("(")
+          .append(profileType)
+          .append(") ")
+          .append(count)
+          .append("건, ");
+    });
+
+    // 마지막 쉼표 제거
+    if (message.length() > 2) {
+      message.setLength(message.length() - 2);
+    }
+    return message.toString();
+  }
+
+  private static void pace(long nanos) {
+    try {
+      Thread.sleep(Duration.ofNanos(nanos));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
   }
-}
\ No newline at end of file
+}
@@ -1,33 +1,112 @@
 package com.deliveranything.domain.notification.scheduler;
 
-import com.deliveranything.domain.notification.repository.EmitterRepository;
-import lombok.RequiredArgsConstructor;
+import com.deliveranything.domain.notification.sse.SseConnection;
+import com.deliveranything.domain.notification.sse.SseConnectionListener;
+import com.deliveranything.domain.notification.sse.SseConnectionRegistry;
+import com.deliveranything.domain.notification.sse.SseDispatcher;
+import com.deliveranything.domain.notification.sse.SseEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-@Component
-@RequiredArgsConstructor
+/**
+ * SSE 하트비트 타이머 휠
+ * <p>
+ * 연결을 heartbeat-interval / heartbeat-tick 개의 슬롯에 해시로 분산하고, 전용 스레드가 tick 마다 한 슬롯만 처리한다. 전송은
+ * SseDispatcher 의 가상 스레드에서 병렬로 이뤄지며, 최근 interval / 2 안에 실제 이벤트를 받은 연결은 건너뛴다.
+ * <p>
+ * 연결은 EmitterRepository 에 저장 / 제거될 때 함께 등록 / 해제된다.
+ */
 @Slf4j
-public class SseHeartbeatScheduler {
-
-  private final EmitterRepository emitterRepository;
-
-  @Scheduled(fixedRate = 30_000)
-  public void sendHeartbeat() {
-    emitterRepository.getAllEmitters().forEach((profileId, deviceEmitters) -> {
-      deviceEmitters.forEach((deviceId, emitter) -> {
-        try {
-          emitter.send(SseEmitter.event()
-              .name("heartbeat")
-              .data("ping"));
-        } catch (Exception e) {
-          log.warn("Heartbeat failed for profileId {}, deviceId {}: {}. Completing emitter.",
-              profileId, deviceId, e.getMessage());
-          emitter.complete();
+@Component
+public class SseHeartbeatScheduler implements SseConnectionListener {
+
+  // 밀려 있는 하트비트는 하나로 병합
+  private static final SseEvent HEARTBEAT = new SseEvent(null, "heartbeat", "ping", "heartbeat");
+
+  private final SseDispatcher sseDispatcher;
+  private final SseConnectionRegistry sseConnectionRegistry;
+  private final Duration interval;
+  private final Duration tick;
+  private final Set<SseConnection>[] wheel;
+  private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("sse-heartbeat").daemon().factory());
+  private int cursor = 0; // ticker 스레드에서만 접근
+
+  @SuppressWarnings("unchecked")
+  public SseHeartbeatScheduler(SseDispatcher sseDispatcher,
+      SseConnectionRegistry sseConnectionRegistry,
+      @Value("${notification.sse.heartbeat-interval:30s}") Duration interval,
+      @Value("${notification.sse.heartbeat-tick:1s}") Duration tick) {
+    this.sseDispatcher = sseDispatcher;
+    this.sseConnectionRegistry = sseConnectionRegistry;
+    this.interval = interval;
+    this.tick = tick;
+    int slots = (int) Math.max(1, interval.toMillis() / tick.toMillis());
+    this.wheel = new Set[slots];
+    for (int i = 0; i < slots; i++) {
+      wheel[i] = ConcurrentHashMap.newKeySet();
+    }
+  }
+
+  @PostConstruct
+  public void start() {
+    ticker.scheduleAtFixedRate(this::advance, tick.toMillis(), tick.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    ticker.shutdownNow();
+  }
+
+  @Override
+  public void onSaved(SseConnection connection) {
+    slotOf(connection).add(connection);
+  }
+
+  @Override
+  public void onRemoved(SseConnection connection) {
+    slotOf(connection).remove(connection);
+  }
+
+  private void advance() {
+    try {
+      Set<SseConnection> slot = wheel[cursor];
+      cursor = (cursor + 1) % wheel.length;
+      if (slot.isEmpty()) {
+        return;
+      }
+
+      // 슬롯은 정확히 interval 마다 돌아오고 직전 하트비트는 그 tick 보다 조금 늦게 기록되므로, interval 기준으로 비교하면
+      // 유휴 연결이 한 바퀴씩 건너뛰어 2 x interval 마다 받게 됨. 최근 interval / 2 안에 실제 트래픽이 있었던 연결만 생략해
+      // 유휴 연결은 interval, 트래픽 직후 연결도 최대 1.5 x interval 안에 무엇이든 받도록 함
+      long skipAfter = System.currentTimeMillis() - interval.toMillis() / 2;
+      Set<Long> profileIds = new HashSet<>();
+      for (SseConnection connection : slot) {
+        profileIds.add(connection.getProfileId());
+        if (connection.getLastSentAtMillis() <= skipAfter) {
+          sseDispatcher.dispatch(connection, HEARTBEAT);
         }
-      });
-    });
+      }
+      // 살아 있는 연결의 레지스트리 항목 만료 연장
+      sseConnectionRegistry.refresh(profileIds);
+    } catch (Exception e) {
+      // 예외가 전파되면 이후 tick 이 모두 취소되므로 여기서 처리
+      log.warn("SSE heartbeat tick failed: {}", e.getMessage());
+    }
+  }
+
+  private Set<SseConnection> slotOf(SseConnection connection) {
+    return wheel[Math.floorMod(System.identityHashCode(connection), wheel.length)];
   }
-}
\ No newline at end of file
+}
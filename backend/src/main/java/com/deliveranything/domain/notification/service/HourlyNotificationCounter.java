@@ -0,0 +1,125 @@
+package com.deliveranything.domain.notification.service;
+
+import com.deliveranything.domain.notification.enums.NotificationType;
+import com.deliveranything.domain.user.profile.entity.Profile;
+import com.deliveranything.domain.user.profile.repository.ProfileRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 1시간 집계 알림 카운터
+ * <p>
+ * notifications:hourly:user:{userId} ("type:profileType" -> count) 를 증가시키면서, 카운터가 있는 사용자 ID 를 파티션별
+ * dirty 집합 (notifications:hourly:dirty:{partition}) 에 함께 기록한다. 집계 작업은 dirty 집합만 순회한다.
+ * <p>
+ * 한 사용자의 여러 프로필 알림은 같은 카운터에 모이므로 사용자당 SMS 는 한 시간에 한 번만 나간다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HourlyNotificationCounter {
+
+  public static final String COUNTER_KEY_PREFIX = "notifications:hourly:user:";
+  private static final String DIRTY_KEY_PREFIX = "notifications:hourly:dirty:";
+  private static final Duration COUNTER_TTL = Duration.ofHours(2);
+
+  // 카운터 조회와 삭제를 원자적으로 처리 (조회~삭제 사이 증가분 유실 방지)
+  private static final RedisScript<Object> DRAIN_SCRIPT = RedisScript.of("""
+      local counts = redis.call('HGETALL', KEYS[1])
+      redis.call('DEL', KEYS[1])
+      return counts
+      """);
+
+  private final StringRedisTemplate redisTemplate;
+  private final ProfileRepository profileRepository;
+
+  @Getter
+  @Value("${notification.digest.partitions:8}")
+  private int partitions;
+
+  // 프로필 알림을 그 프로필 사용자의 카운터에 더함 (없는 프로필이면 무시)
+  public void increment(Long profileId, NotificationType type) {
+    Profile profile = profileRepository.findById(profileId).orElse(null);
+    if (profile == null) {
+      return;
+    }
+    Long userId = profile.getUser().getId();
+    String key = COUNTER_KEY_PREFIX + userId;
+    String field = type.name() + ":" + profile.getType().name();
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+      connection.hashCommands()
+          .hIncrBy(rawKey, field.getBytes(StandardCharsets.UTF_8), 1);
+      connection.keyCommands().expire(rawKey, COUNTER_TTL.toSeconds());
+      connection.setCommands().sAdd(dirtyKey(partitionOf(userId)).getBytes(
+          StandardCharsets.UTF_8), String.valueOf(userId).getBytes(StandardCharsets.UTF_8));
+      return null;
+    });
+  }
+
+  /**
+   * 파티션의 dirty 사용자를 최대 batchSize 명 꺼냄
+   */
+  public List<Long> popDirtyUserIds(int partition, int batchSize) {
+    List<String> popped = redisTemplate.opsForSet().pop(dirtyKey(partition), batchSize);
+    if (popped == null) {
+      return List.of();
+    }
+    return popped.stream().map(Long::valueOf).toList();
+  }
+
+  /**
+   * 사용자별 카운터를 파이프라인으로 한 번에 조회 후 삭제
+   *
+   * @return userId -> ("type:profileType" -> count), 카운터가 이미 만료된 사용자는 제외
+   */
+  public Map<Long, Map<String, Integer>> drainCounts(List<Long> userIds) {
+    byte[] script = DRAIN_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    String sha = DRAIN_SCRIPT.getSha1();
+
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.scriptingCommands().scriptLoad(script);
+      userIds.forEach(userId -> connection.scriptingCommands().evalSha(sha,
+          ReturnType.MULTI, 1,
+          (COUNTER_KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8)));
+      return null;
+    });
+
+    Map<Long, Map<String, Integer>> countsByUser = new LinkedHashMap<>();
+    // 첫 번째 결과는 SCRIPT LOAD 응답
+    for (int i = 0; i < userIds.size(); i++) {
+      List<?> flat = results.get(i + 1) instanceof List<?> list ? list : List.of();
+      Map<String, Integer> counts = new LinkedHashMap<>();
+      for (int j = 0; j + 1 < flat.size(); j += 2) {
+        counts.put(asString(flat.get(j)), Integer.parseInt(asString(flat.get(j + 1))));
+      }
+      if (!counts.isEmpty()) {
+        countsByUser.put(userIds.get(i), counts);
+      }
+    }
+    return countsByUser;
+  }
+
+  public int partitionOf(Long userId) {
+    return (int) Math.floorMod(userId, (long) partitions);
+  }
+
+  private static String asString(Object value) {
+    return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8)
+        : String.valueOf(value);
+  }
+
+  private static String dirtyKey(int partition) {
+    return DIRTY_KEY_PREFIX + partition;
+  }
+}
@@ -2,39 +2,77 @@ package com.deliveranything.domain.notification.service;
 
 import com.deliveranything.domain.notification.entity.Notification;
 import com.deliveranything.domain.notification.enums.NotificationType;
-import com.deliveranything.domain.notification.repository.EmitterRepository;
 import com.deliveranything.domain.notification.repository.NotificationRepository;
+import com.deliveranything.domain.notification.sse.SseReplayBuffer;
+import com.deliveranything.domain.notification.sse.SseRouter;
+import com.deliveranything.global.common.CursorPageResponse;
+import com.deliveranything.global.util.CursorUtil;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
+  private static final String CLAIM_KEY_PREFIX = "notifications:claim:";
+  // 알림 목록 페이지 크기 상한
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final NotificationRepository notificationRepository;
-  private final EmitterRepository emitterRepository;
+  private final SseRouter sseRouter;
+  private final SseReplayBuffer sseReplayBuffer;
+  private final StringRedisTemplate redisTemplate;
+  private final UnreadNotificationCounter unreadNotificationCounter;
+
+  @Value("${notification.claim-ttl:10m}")
+  private Duration claimTtl;
 
   /**
    * 프로필 ID 기준 알림 생성 및 모든 디바이스 전송
+   * <p>
+   * 같은 이벤트가 여러 노드에 전달되거나 재전달될 수 있으므로, 이벤트 id 로 먼저 선점한 한 곳에서만 저장/전송한다. 처리 중 실패하면 선점을
+   * 풀어 재전달된 이벤트가 다시 처리할 수 있게 한다.
+   *
+   * @param eventId 이벤트(메시지) id, 재전달돼도 같은 값
+   * @return 저장된 알림 (이미 처리된 이벤트인 경우 null)
    */
   public Notification sendNotification(Long profileId, NotificationType type, String message,
-      String data) {
-    Notification notification = new Notification();
-    notification.setRecipientId(profileId);
-    notification.setType(type);
-    notification.setMessage(message);
-    notification.setData(data);
+      String data, String eventId) {
+    // 한 이벤트가 여러 프로필에 알림을 보내므로 수신자까지 포함
+    String claimKey = CLAIM_KEY_PREFIX + eventId + ":" + profileId;
+    if (!Boolean.TRUE.equals(
+        redisTemplate.opsForValue().setIfAbsent(claimKey, "1", claimTtl))) {
+      log.debug("Notification for event {} to profileId {} ({}) already handled", eventId,
+          profileId, type);
+      return null;
+    }
+
+    try {
+      Notification notification = new Notification();
+      notification.setRecipientId(profileId);
+      notification.setType(type);
+      notification.setMessage(message);
+      notification.setData(data);
 
-    notificationRepository.save(notification);
+      notificationRepository.save(notification);
+      unreadNotificationCounter.increment(profileId);
 
-    broadcastToEmitters(profileId, notification, "notification");
+      broadcastToEmitters(profileId, notification, "notification");
 
-    return notification;
+      return notification;
+    } catch (RuntimeException e) {
+      redisTemplate.delete(claimKey);
+      throw e;
+    }
   }
 
   /**
@@ -47,6 +85,7 @@ public class NotificationService {
 
     if (notification.getRecipientId().equals(profileId) && !notification.isRead()) {
       notification.setRead(true);
+      unreadNotificationCounter.decrement(profileId);
 
       // 읽음 상태를 다른 디바이스에도 브로드캐스트
       broadcastToEmitters(profileId, notificationId, "notification-read");
@@ -54,39 +93,67 @@ public class NotificationService {
   }
 
   /**
-   * 프로필 ID 기준 알림 목록 조회
+   * 전체 읽음 처리 + 다른 디바이스 동기화 (UPDATE 1회, 브로드캐스트 1회)
    */
-  public List<Notification> getNotifications(Long profileId, Boolean isRead) {
-    if (isRead == null) {
-      return notificationRepository.findByRecipientIdOrderByCreatedAtDesc(profileId);
-    } else {
-      return notificationRepository.findByRecipientIdAndIsReadOrderByCreatedAtDesc(profileId,
-          isRead);
+  @Transactional
+  public int markAllAsRead(Long profileId) {
+    int updated = notificationRepository.markAllAsRead(profileId);
+    unreadNotificationCounter.reset(profileId);
+
+    if (updated > 0) {
+      broadcastToEmitters(profileId, "all", "notification-read-all");
+    }
+    return updated;
+  }
+
+  /**
+   * 프로필 ID 기준 알림 목록 커서 페이징 조회 (최신순)
+   */
+  public CursorPageResponse<Notification> getNotifications(Long profileId, Boolean isRead,
+      String cursor, int size) {
+    size = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+    // 커서 디코딩
+    LocalDateTime lastCreatedAt = null;
+    Long lastId = null;
+
+    String[] decoded = CursorUtil.decode(cursor);
+    if (decoded != null && decoded.length == 2) {
+      try {
+        lastCreatedAt = LocalDateTime.parse(decoded[0]);
+        lastId = Long.parseLong(decoded[1]);
+      } catch (Exception e) {
+        lastCreatedAt = null;
+        lastId = null;
+      }
     }
+
+    // size + 1 건 조회해 다음 페이지 존재 여부 판단
+    List<Notification> notifications = notificationRepository.findInboxPage(
+        profileId, isRead, lastCreatedAt, lastId, PageRequest.of(0, size + 1));
+
+    boolean hasNext = notifications.size() > size;
+    List<Notification> content = hasNext ? notifications.subList(0, size) : notifications;
+
+    String nextPageToken = null;
+    if (hasNext) {
+      Notification last = content.get(content.size() - 1);
+      nextPageToken = CursorUtil.encode(last.getCreatedAt(), last.getId());
+    }
+
+    return new CursorPageResponse<>(content, nextPageToken, hasNext);
   }
 
   public long getUnreadCount(Long profileId) {
-    return notificationRepository.countByRecipientIdAndIsReadFalse(profileId);
+    return unreadNotificationCounter.get(profileId);
   }
 
   /**
    * 멀티 디바이스 브로드캐스트 공통 메서드
+   * <p>
+   * 재연결 시 재전송할 수 있도록 replay 버퍼에 먼저 보관한 뒤, 해당 프로필의 연결을 가진 노드로만 전달
    */
   private void broadcastToEmitters(Long profileId, Object payload, String eventName) {
-    List<SseEmitter> emitters = emitterRepository.getAllForProfile(profileId);
-    for (SseEmitter emitter : emitters) {
-      try {
-        emitter.send(SseEmitter.event()
-            .id(payload instanceof Notification ? ((Notification) payload).getId().toString()
-                : payload.toString())
-            .name(eventName)
-            .data(payload));
-      } catch (Exception e) {
-        log.warn("SSE send failed for profileId {}: {}. Completing emitter.", profileId,
-            e.getMessage());
-        // Emitter를 완료시켜 onCompletion 콜백이 호출되도록 함
-        emitter.complete();
-      }
-    }
+    sseRouter.route(profileId, sseReplayBuffer.append(profileId, eventName, payload));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package com.deliveranything.domain.notification.service;
+
+import com.deliveranything.domain.notification.repository.NotificationRepository;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 프로필별 읽지 않은 알림 수 캐시 (notifications:unread:{profileId})
+ * <p>
+ * 키가 있을 때만 증감하고, 없으면 조회 시 DB COUNT 로 다시 채운다. 재구성과 동시에 들어온 증감은 놓칠 수 있으므로 TTL 을 짧게 두어 주기적으로
+ * 보정한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+  private static final String KEY_PREFIX = "notifications:unread:";
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  // 캐시된 값이 있을 때만 증감 (0 미만으로 내려가지 않음)
+  private static final RedisScript<Long> ADJUST_SCRIPT = RedisScript.of("""
+      local current = redis.call('GET', KEYS[1])
+      if not current then
+        return -1
+      end
+      local next = math.max(0, tonumber(current) + tonumber(ARGV[1]))
+      redis.call('SET', KEYS[1], next, 'KEEPTTL')
+      return next
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final NotificationRepository notificationRepository;
+
+  public void increment(Long profileId) {
+    adjust(profileId, 1);
+  }
+
+  public void decrement(Long profileId) {
+    adjust(profileId, -1);
+  }
+
+  // 전체 읽음 처리 후 0 으로 설정
+  public void reset(Long profileId) {
+    redisTemplate.opsForValue().set(key(profileId), "0", TTL);
+  }
+
+  public long get(Long profileId) {
+    String cached = redisTemplate.opsForValue().get(key(profileId));
+    if (cached != null) {
+      return Long.parseLong(cached);
+    }
+    long count = notificationRepository.countByRecipientIdAndIsReadFalse(profileId);
+    // 그 사이 다른 요청이 채웠으면 덮어쓰지 않음
+    redisTemplate.opsForValue().setIfAbsent(key(profileId), String.valueOf(count), TTL);
+    return count;
+  }
+
+  private void adjust(Long profileId, long delta) {
+    redisTemplate.execute(ADJUST_SCRIPT, List.of(key(profileId)), String.valueOf(delta));
+  }
+
+  private static String key(Long profileId) {
+    return KEY_PREFIX + profileId;
+  }
+}
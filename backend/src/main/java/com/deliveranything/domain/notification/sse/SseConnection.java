@@ -0,0 +1,78 @@
+package com.deliveranything.domain.notification.sse;
+
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SseEmitter 와 해당 연결 전용 전송 대기열(bounded)을 묶은 객체
+ */
+@Getter
+public class SseConnection {
+
+  private final Long profileId;
+  private final String deviceId;
+  private final SseEmitter emitter;
+
+  private final LinkedList<SseEvent> queue = new LinkedList<>();
+  private final AtomicBoolean draining = new AtomicBoolean(false);
+  private volatile long lastSentAtMillis = System.currentTimeMillis();
+  private volatile boolean closed = false;
+
+  public SseConnection(Long profileId, String deviceId, SseEmitter emitter) {
+    this.profileId = profileId;
+    this.deviceId = deviceId;
+    this.emitter = emitter;
+  }
+
+  enum OfferResult {
+    QUEUED,          // 대기열에 추가
+    COALESCED,       // 같은 coalesceKey 이벤트를 최신 값으로 교체
+    DROPPED_OLDEST,  // 대기열이 가득 차 가장 오래된 이벤트를 버리고 추가
+    REJECTED         // 이미 종료된 연결
+  }
+
+  synchronized OfferResult offer(SseEvent event, int capacity) {
+    if (closed) {
+      return OfferResult.REJECTED;
+    }
+    if (event.coalesceKey() != null) {
+      ListIterator<SseEvent> it = queue.listIterator();
+      while (it.hasNext()) {
+        if (event.coalesceKey().equals(it.next().coalesceKey())) {
+          it.set(event);
+          return OfferResult.COALESCED;
+        }
+      }
+    }
+    if (queue.size() >= capacity) {
+      queue.removeFirst();
+      queue.addLast(event);
+      return OfferResult.DROPPED_OLDEST;
+    }
+    queue.addLast(event);
+    return OfferResult.QUEUED;
+  }
+
+  synchronized SseEvent poll() {
+    return queue.pollFirst();
+  }
+
+  synchronized int size() {
+    return queue.size();
+  }
+
+  // 연결 종료 처리 후 버려진 대기 이벤트 수 반환
+  synchronized int close() {
+    closed = true;
+    int discarded = queue.size();
+    queue.clear();
+    return discarded;
+  }
+
+  void markSent() {
+    lastSentAtMillis = System.currentTimeMillis();
+  }
+}
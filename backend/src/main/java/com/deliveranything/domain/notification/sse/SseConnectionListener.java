@@ -0,0 +1,13 @@
+package com.deliveranything.domain.notification.sse;
+
+/**
+ * EmitterRepository 에 연결이 저장 / 제거될 때 호출되는 콜백
+ * <p>
+ * 같은 기기의 재연결로 기존 연결이 교체되면 기존 연결의 onRemoved 가 먼저 호출된다.
+ */
+public interface SseConnectionListener {
+
+  void onSaved(SseConnection connection);
+
+  void onRemoved(SseConnection connection);
+}
@@ -0,0 +1,84 @@
+package com.deliveranything.domain.notification.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터 전체 SSE 연결 위치 (Redis Hash)
+ * <p>
+ * notifications:sse:conn:{profileId} -> (deviceId -> nodeId). 하트비트마다 TTL 을 갱신하므로 비정상 종료된 노드의 항목은
+ * registry-ttl 후 자동으로 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SseConnectionRegistry {
+
+  private static final String KEY_PREFIX = "notifications:sse:conn:";
+
+  // 같은 기기가 다른 노드로 재연결한 경우 그 항목은 지우지 않음
+  private static final RedisScript<Long> UNREGISTER_SCRIPT = RedisScript.of("""
+      if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+        return redis.call('HDEL', KEYS[1], ARGV[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  @Getter
+  @Value("${notification.sse.node-id:${random.uuid}}")
+  private String nodeId;
+
+  @Value("${notification.sse.registry-ttl:2m}")
+  private Duration registryTtl;
+
+  public void register(Long profileId, String deviceId) {
+    String key = key(profileId);
+    redisTemplate.opsForHash().put(key, deviceId, nodeId);
+    redisTemplate.expire(key, registryTtl);
+  }
+
+  public void unregister(Long profileId, String deviceId) {
+    redisTemplate.execute(UNREGISTER_SCRIPT, List.of(key(profileId)), deviceId, nodeId);
+  }
+
+  /**
+   * 해당 프로필의 연결을 가진 노드 목록
+   */
+  public Set<String> nodesFor(Long profileId) {
+    List<Object> nodes = redisTemplate.opsForHash().values(key(profileId));
+    Set<String> result = new HashSet<>();
+    nodes.forEach(node -> result.add(node.toString()));
+    return result;
+  }
+
+  /**
+   * 이 노드가 들고 있는 프로필들의 TTL 갱신 (파이프라인 1회)
+   */
+  public void refresh(Collection<Long> profileIds) {
+    if (profileIds.isEmpty()) {
+      return;
+    }
+    long ttlSeconds = registryTtl.toSeconds();
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      profileIds.forEach(profileId -> connection.keyCommands()
+          .expire(key(profileId).getBytes(StandardCharsets.UTF_8), ttlSeconds));
+      return null;
+    });
+  }
+
+  private static String key(Long profileId) {
+    return KEY_PREFIX + profileId;
+  }
+}
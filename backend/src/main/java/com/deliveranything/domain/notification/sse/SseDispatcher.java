@@ -0,0 +1,133 @@
+package com.deliveranything.domain.notification.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 전송 엔진
+ * <p>
+ * 호출 스레드(Redis 리스너 등)에서는 연결별 대기열에 넣기만 하고, 실제 전송은 가상 스레드에서 연결 단위로 순차 처리한다. 느린 클라이언트는 자기
+ * 대기열만 쌓이며, 가득 차면 가장 오래된 이벤트를 버린다(coalesceKey 가 같은 이벤트는 최신 값으로 병합).
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final AtomicLong queuedEvents = new AtomicLong();
+  private final int queueCapacity;
+
+  private final Counter droppedCounter;
+  private final Counter coalescedCounter;
+  private final Timer sendTimer;
+
+  public SseDispatcher(MeterRegistry meterRegistry,
+      @Value("${notification.sse.queue-capacity:64}") int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+    this.droppedCounter = Counter.builder("sse.events.dropped")
+        .description("대기열 초과/연결 종료로 버려진 SSE 이벤트 수")
+        .register(meterRegistry);
+    this.coalescedCounter = Counter.builder("sse.events.coalesced")
+        .description("대기 중 이벤트와 병합된 SSE 이벤트 수")
+        .register(meterRegistry);
+    this.sendTimer = Timer.builder("sse.send.latency")
+        .description("SseEmitter.send 소요 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    Gauge.builder("sse.queue.depth", queuedEvents, AtomicLong::get)
+        .description("전체 연결의 전송 대기 이벤트 수")
+        .register(meterRegistry);
+  }
+
+  public void dispatch(Collection<SseConnection> connections, SseEvent event) {
+    connections.forEach(connection -> dispatch(connection, event));
+  }
+
+  public void dispatch(SseConnection connection, SseEvent event) {
+    switch (connection.offer(event, queueCapacity)) {
+      case QUEUED -> queuedEvents.incrementAndGet();
+      case COALESCED -> coalescedCounter.increment();
+      case DROPPED_OLDEST -> droppedCounter.increment();
+      case REJECTED -> {
+        droppedCounter.increment();
+        return;
+      }
+    }
+    scheduleDrain(connection);
+  }
+
+  // 연결 종료 시 남은 대기 이벤트 정리
+  public void close(SseConnection connection) {
+    int discarded = connection.close();
+    if (discarded > 0) {
+      queuedEvents.addAndGet(-discarded);
+      droppedCounter.increment(discarded);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  // 연결당 하나의 drain 작업만 실행되도록 보장 (전송 순서 유지)
+  private void scheduleDrain(SseConnection connection) {
+    if (connection.getDraining().compareAndSet(false, true)) {
+      executor.execute(() -> drain(connection));
+    }
+  }
+
+  private void drain(SseConnection connection) {
+    try {
+      SseEvent event;
+      while ((event = connection.poll()) != null) {
+        queuedEvents.decrementAndGet();
+        if (!send(connection, event)) {
+          close(connection);
+          return;
+        }
+      }
+    } finally {
+      connection.getDraining().set(false);
+    }
+    // drain 종료 직후 들어온 이벤트 처리 (lost wake-up 방지)
+    if (connection.size() > 0) {
+      scheduleDrain(connection);
+    }
+  }
+
+  private boolean send(SseConnection connection, SseEvent event) {
+    long startNanos = System.nanoTime();
+    try {
+      SseEmitter.SseEventBuilder builder = SseEmitter.event()
+          .name(event.name())
+          .data(event.data());
+      if (event.id() != null) {
+        builder.id(event.id());
+      }
+      connection.getEmitter().send(builder);
+      connection.markSent();
+      return true;
+    } catch (Exception e) {
+      log.warn("SSE send failed for profileId {}, deviceId {}: {}. Completing emitter.",
+          connection.getProfileId(), connection.getDeviceId(), e.getMessage());
+      // Emitter를 완료시켜 onCompletion 콜백이 호출되도록 함
+      connection.getEmitter().complete();
+      return false;
+    } finally {
+      sendTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
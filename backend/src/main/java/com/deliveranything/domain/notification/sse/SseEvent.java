@@ -0,0 +1,21 @@
+package com.deliveranything.domain.notification.sse;
+
+/**
+ * 전송 대기열에 쌓이는 SSE 이벤트
+ *
+ * @param id          SSE 이벤트 ID (null 이면 생략)
+ * @param name        SSE 이벤트 이름
+ * @param data        전송 데이터
+ * @param coalesceKey 같은 키의 이벤트가 대기 중이면 최신 이벤트로 교체 (null 이면 병합하지 않음)
+ */
+public record SseEvent(
+    String id,
+    String name,
+    Object data,
+    String coalesceKey
+) {
+
+  public static SseEvent of(String id, String name, Object data) {
+    return new SseEvent(id, name, data, null);
+  }
+}
@@ -0,0 +1,138 @@
+package com.deliveranything.domain.notification.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필별 최근 SSE 이벤트 보관소 (Redis Stream, 최대 replay-size 건)
+ * <p>
+ * 이벤트 ID 로 Stream 레코드 ID 를 사용하므로 인스턴스/재배포와 무관하게 단조 증가한다. 재연결 시 Last-Event-ID 이후의 이벤트만 다시 전송한다.
+ * <p>
+ * Stream 은 이벤트가 없으면 replay-ttl 뒤 만료되지만, 프로필별 마지막 이벤트 ID 는 만료 없이 남겨 두어 만료된 뒤 재연결해도 실제로 놓친
+ * 이벤트가 있을 때만 resync 를 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseReplayBuffer {
+
+  // 같은 프로필의 키는 같은 슬롯에 두도록 hash tag 사용
+  private static final String KEY_PREFIX = "notifications:sse:{";
+  private static final String REPLAY_KEY_SUFFIX = "}:replay";
+  private static final String LAST_ID_KEY_SUFFIX = "}:last-id";
+  private static final String FIELD_NAME = "name";
+  private static final String FIELD_DATA = "data";
+  private static final Pattern STREAM_ID = Pattern.compile("\\d+-\\d+");
+
+  // 보관 범위를 벗어난 Last-Event-ID 로 재연결한 경우 전체 재조회를 요청하는 이벤트
+  public static final String RESYNC_EVENT_NAME = "resync";
+
+  // KEYS: Stream, 마지막 이벤트 ID / ARGV: 보관 건수, TTL(ms), 이벤트 이름, 데이터
+  private static final RedisScript<String> APPEND_SCRIPT = RedisScript.of("""
+      local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*',
+          'name', ARGV[3], 'data', ARGV[4])
+      redis.call('PEXPIRE', KEYS[1], ARGV[2])
+      redis.call('SET', KEYS[2], id)
+      return id
+      """, String.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Value("${notification.sse.replay.size:100}")
+  private long replaySize;
+
+  @Value("${notification.sse.replay.ttl:1h}")
+  private Duration replayTtl;
+
+  /**
+   * 이벤트를 보관하고 ID 가 부여된 SseEvent 반환
+   */
+  public SseEvent append(Long profileId, String eventName, Object payload) {
+    String data = toJson(payload);
+    // XADD MAXLEN ~ / PEXPIRE / 마지막 ID 기록을 스크립트 1회로
+    String recordId = redisTemplate.execute(APPEND_SCRIPT,
+        List.of(replayKey(profileId), lastIdKey(profileId)),
+        String.valueOf(replaySize), String.valueOf(replayTtl.toMillis()), eventName, data);
+    return SseEvent.of(recordId, eventName, data);
+  }
+
+  /**
+   * lastEventId 이후의 이벤트 목록 (그 사이 이벤트가 보관 범위를 벗어났으면 resync 이벤트 하나)
+   */
+  public List<SseEvent> replaySince(Long profileId, String lastEventId) {
+    if (lastEventId == null || !STREAM_ID.matcher(lastEventId).matches()) {
+      return List.of();
+    }
+    String key = replayKey(profileId);
+    RecordId last = RecordId.of(lastEventId);
+
+    List<MapRecord<String, Object, Object>> oldest = redisTemplate.opsForStream()
+        .range(key, Range.unbounded(), Limit.limit().count(1));
+    if (oldest == null || oldest.isEmpty()) {
+      // Stream 이 만료됨: 마지막으로 보관한 이벤트까지 이미 받았으면 놓친 이벤트 없음 (유휴 연결의 재연결)
+      String lastAppended = redisTemplate.opsForValue().get(lastIdKey(profileId));
+      return lastAppended != null && compare(RecordId.of(lastAppended), last) > 0
+          ? resync(lastEventId) : List.of();
+    }
+    // 가장 오래된 보관 이벤트보다 이전 ID 면 그 사이 이벤트가 잘려 나간 것
+    if (compare(oldest.get(0).getId(), last) > 0) {
+      return resync(lastEventId);
+    }
+
+    List<MapRecord<String, Object, Object>> missed = redisTemplate.opsForStream()
+        .range(key, Range.rightUnbounded(Range.Bound.exclusive(lastEventId)),
+            Limit.limit().count((int) replaySize));
+    if (missed == null) {
+      return List.of();
+    }
+    // 조회 사이에 이벤트가 더 쌓여 보관 한도만큼 찼으면 일부가 잘렸을 수 있으므로 전체 재조회
+    if (missed.size() >= replaySize) {
+      return resync(lastEventId);
+    }
+    return missed.stream()
+        .map(r -> SseEvent.of(r.getId().getValue(),
+            String.valueOf(r.getValue().get(FIELD_NAME)),
+            String.valueOf(r.getValue().get(FIELD_DATA))))
+        .toList();
+  }
+
+  private static List<SseEvent> resync(String lastEventId) {
+    return List.of(SseEvent.of(null, RESYNC_EVENT_NAME, lastEventId));
+  }
+
+  private String toJson(Object payload) {
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      log.warn("SSE payload 직렬화 실패: {}", e.getMessage());
+      return String.valueOf(payload);
+    }
+  }
+
+  private static int compare(RecordId a, RecordId b) {
+    int cmp = Long.compare(a.getTimestamp(), b.getTimestamp());
+    return cmp != 0 ? cmp : Long.compare(a.getSequence(), b.getSequence());
+  }
+
+  private static String replayKey(Long profileId) {
+    return KEY_PREFIX + profileId + REPLAY_KEY_SUFFIX;
+  }
+
+  private static String lastIdKey(Long profileId) {
+    return KEY_PREFIX + profileId + LAST_ID_KEY_SUFFIX;
+  }
+}
@@ -0,0 +1,76 @@
+package com.deliveranything.domain.notification.sse;
+
+import com.deliveranything.domain.notification.repository.EmitterRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연결을 가진 노드로만 SSE 이벤트를 전달
+ * <p>
+ * 로컬 연결은 바로 전송 대기열에 넣고, 다른 노드의 연결은 해당 노드 전용 채널(notifications:sse:node:{nodeId})로 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseRouter implements MessageListener {
+
+  private static final String NODE_CHANNEL_PREFIX = "notifications:sse:node:";
+
+  private final RedisMessageListenerContainer container;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final SseConnectionRegistry connectionRegistry;
+  private final EmitterRepository emitterRepository;
+  private final SseDispatcher sseDispatcher;
+
+  @PostConstruct
+  public void registerListener() {
+    container.addMessageListener(this,
+        new ChannelTopic(NODE_CHANNEL_PREFIX + connectionRegistry.getNodeId()));
+  }
+
+  public void route(Long profileId, SseEvent event) {
+    Set<String> nodes = connectionRegistry.nodesFor(profileId);
+    for (String node : nodes) {
+      if (node.equals(connectionRegistry.getNodeId())) {
+        deliverLocally(profileId, event);
+        continue;
+      }
+      try {
+        redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + node,
+            objectMapper.writeValueAsString(new RoutedEvent(profileId, event)));
+      } catch (Exception e) {
+        log.warn("SSE event relay to node {} failed for profileId {}: {}", node, profileId,
+            e.getMessage());
+      }
+    }
+  }
+
+  @Override
+  public void onMessage(@NonNull Message message, byte[] pattern) {
+    try {
+      RoutedEvent routed = objectMapper.readValue(message.getBody(), RoutedEvent.class);
+      deliverLocally(routed.profileId(), routed.event());
+    } catch (Exception e) {
+      log.error("Failed to process routed SSE event from Redis", e);
+    }
+  }
+
+  private void deliverLocally(Long profileId, SseEvent event) {
+    sseDispatcher.dispatch(emitterRepository.getAllForProfile(profileId), event);
+  }
+
+  record RoutedEvent(Long profileId, SseEvent event) {
+
+  }
+}
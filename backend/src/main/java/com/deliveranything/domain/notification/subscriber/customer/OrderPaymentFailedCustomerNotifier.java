@@ -4,44 +4,35 @@ import com.deliveranything.domain.notification.enums.NotificationMessage;
 import com.deliveranything.domain.notification.enums.NotificationType;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.order.event.sse.customer.OrderPaymentFailedForCustomerEvent;
+import com.deliveranything.global.event.EventTransport;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderPaymentFailedCustomerNotifier implements MessageListener {
+public class OrderPaymentFailedCustomerNotifier {
 
-  private final RedisMessageListenerContainer container;
+  private final EventTransport eventTransport;
   private final ObjectMapper objectMapper;
   private final NotificationService notificationService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-payment-failed-for-customer-event"));
+    eventTransport.subscribeWithId("order-payment-failed-for-customer-event", "notification",
+        OrderPaymentFailedForCustomerEvent.class, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      OrderPaymentFailedForCustomerEvent event = objectMapper.readValue(message.getBody(),
-          OrderPaymentFailedForCustomerEvent.class);
-      notificationService.sendNotification(
-          event.customerId(),
-          NotificationType.ORDER_PAYMENT_FAILED_CUSTOMER,
-          NotificationMessage.ORDER_PAID_CUSTOMER.getMessage(),
-          objectMapper.writeValueAsString(event)
-      );
-    } catch (Exception e) {
-      log.error("Failed to process order payment failed for customer event from Redis", e);
-    }
+  private void handle(String eventId, OrderPaymentFailedForCustomerEvent event)
+      throws JsonProcessingException {
+    notificationService.sendNotification(
+        event.customerId(),
+        NotificationType.ORDER_PAYMENT_FAILED_CUSTOMER,
+        NotificationMessage.ORDER_PAID_CUSTOMER.getMessage(),
+        objectMapper.writeValueAsString(event),
+        eventId
+    );
   }
 }
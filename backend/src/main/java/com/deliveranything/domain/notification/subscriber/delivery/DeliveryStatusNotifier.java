@@ -25,21 +25,24 @@ public class DeliveryStatusNotifier {
             event.customerProfileId(),
             NotificationType.RIDER_STATUS_CHANGED,
             NotificationMessage.RIDER_STATUS_CHANGED.getMessage(),
-            objectMapper.writeValueAsString(event));
+            objectMapper.writeValueAsString(event),
+            event.eventId());
       }
       if (event.sellerProfileId() != null) {
         notificationService.sendNotification(
             event.sellerProfileId(),
             NotificationType.RIDER_STATUS_CHANGED,
             NotificationMessage.RIDER_STATUS_CHANGED.getMessage(),
-            objectMapper.writeValueAsString(event));
+            objectMapper.writeValueAsString(event),
+            event.eventId());
       }
       if (event.riderProfileId() != null) {
         notificationService.sendNotification(
             event.riderProfileId(),
             NotificationType.RIDER_STATUS_CHANGED,
             NotificationMessage.RIDER_STATUS_CHANGED.getMessage(),
-            objectMapper.writeValueAsString(event));
+            objectMapper.writeValueAsString(event),
+            event.eventId());
       }
     } catch (Exception e) {
       throw new CustomException(ErrorCode.SSE_SUBSCRIBE_UNAVAILABLE);
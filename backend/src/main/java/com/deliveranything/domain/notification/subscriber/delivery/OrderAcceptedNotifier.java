@@ -21,7 +21,7 @@ public class OrderAcceptedNotifier {
   private final NotificationService notificationService;
 
   // 프로필 단위 전체 전송 (해당 프로필의 모든 emitter로 전송)
-  public void publish(List<RiderNotificationDto> events) {
+  public void publish(String eventId, List<RiderNotificationDto> events) {
     events.forEach(event ->
         {
           try {
@@ -29,7 +29,8 @@ public class OrderAcceptedNotifier {
                 Long.parseLong(event.riderId()),
                 NotificationType.RIDER_ACCEPTED_ORDER,
                 NotificationMessage.RIDER_ACCEPTED_ORDER.getMessage(),
-                objectMapper.writeValueAsString(event));
+                objectMapper.writeValueAsString(event),
+                eventId);
           } catch (JsonProcessingException e) {
             throw new CustomException(ErrorCode.SSE_SUBSCRIBE_UNAVAILABLE);
           }
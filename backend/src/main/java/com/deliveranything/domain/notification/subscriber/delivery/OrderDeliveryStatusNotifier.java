@@ -23,7 +23,8 @@ public class OrderDeliveryStatusNotifier {
           profileId,
           NotificationType.RIDER_DECISION,
           NotificationMessage.RIDER_DECISION.getMessage(),
-          objectMapper.writeValueAsString(event)
+          objectMapper.writeValueAsString(event),
+          event.eventId()
       );
     } catch (Exception e) {
       throw new CustomException(ErrorCode.SSE_SUBSCRIBE_UNAVAILABLE);
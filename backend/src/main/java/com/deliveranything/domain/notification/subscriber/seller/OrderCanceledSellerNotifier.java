@@ -4,44 +4,35 @@ import com.deliveranything.domain.notification.enums.NotificationMessage;
 import com.deliveranything.domain.notification.enums.NotificationType;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.order.event.sse.seller.OrderCanceledForSellerEvent;
+import com.deliveranything.global.event.EventTransport;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderCanceledSellerNotifier implements MessageListener {
+public class OrderCanceledSellerNotifier {
 
-  private final RedisMessageListenerContainer container;
+  private final EventTransport eventTransport;
   private final ObjectMapper objectMapper;
   private final NotificationService notificationService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-canceled-for-seller-event"));
+    eventTransport.subscribeWithId("order-canceled-for-seller-event", "notification",
+        OrderCanceledForSellerEvent.class, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      OrderCanceledForSellerEvent event = objectMapper.readValue(message.getBody(),
-          OrderCanceledForSellerEvent.class);
-      notificationService.sendNotification(
-          event.sellerId(),
-          NotificationType.ORDER_CANCELED_SELLER,
-          NotificationMessage.ORDER_CANCELED_SELLER.getMessage(),
-          objectMapper.writeValueAsString(event)
-      );
-    } catch (Exception e) {
-      log.error("Failed to process order canceled for seller event from Redis", e);
-    }
+  private void handle(String eventId, OrderCanceledForSellerEvent event)
+      throws JsonProcessingException {
+    notificationService.sendNotification(
+        event.sellerId(),
+        NotificationType.ORDER_CANCELED_SELLER,
+        NotificationMessage.ORDER_CANCELED_SELLER.getMessage(),
+        objectMapper.writeValueAsString(event),
+        eventId
+    );
   }
 }
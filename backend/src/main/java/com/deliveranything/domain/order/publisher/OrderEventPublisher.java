@@ -13,80 +13,85 @@ import com.deliveranything.domain.order.event.sse.customer.OrderStatusChangedFor
 import com.deliveranything.domain.order.event.sse.seller.OrderCanceledForSellerEvent;
 import com.deliveranything.domain.order.event.sse.seller.OrderPaidForSellerEvent;
 import com.deliveranything.domain.order.event.sse.seller.OrderStatusChangedForSellerEvent;
+import com.deliveranything.global.event.outbox.OutboxEventRecorder;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 주문 도메인 이벤트를 outbox 에 기록 (커밋 직전, 같은 트랜잭션)
+ * <p>
+ * 트랜잭션 없이 발행된 이벤트도 fallbackExecution 으로 기록되며, 실제 전송은 OutboxRelay 가 담당한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class OrderEventPublisher {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final OutboxEventRecorder outboxEventRecorder;
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderCreatedEvent(OrderCreatedEvent event) {
-    redisTemplate.convertAndSend("order-created-event", event);
+    outboxEventRecorder.record("order-created-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderPaymentRequestedEvent(OrderPaymentRequestedEvent event) {
-    redisTemplate.convertAndSend("order-payment-requested-event", event);
+    outboxEventRecorder.record("order-payment-requested-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderRejectedEvent(OrderRejectedEvent event) {
-    redisTemplate.convertAndSend("order-rejected-event", event);
+    outboxEventRecorder.record("order-rejected-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderAcceptedEvent(OrderAcceptedEvent event) {
-    redisTemplate.convertAndSend("order-accepted-event", event);
+    outboxEventRecorder.record("order-accepted-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderCompletedEvent(OrderCompletedEvent event) {
-    redisTemplate.convertAndSend("order-completed-event", event);
+    outboxEventRecorder.record("order-completed-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderCancelEvent(OrderCancelEvent event) {
-    redisTemplate.convertAndSend("order-cancel-event", event);
+    outboxEventRecorder.record("order-cancel-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderPaidForCustomerEvent(OrderPaidForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-paid-for-customer-event", event);
+    outboxEventRecorder.record("order-paid-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderPaidForSellerEvent(OrderPaidForSellerEvent event) {
-    redisTemplate.convertAndSend("order-paid-for-seller-event", event);
+    outboxEventRecorder.record("order-paid-for-seller-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderPaymentFailedForCustomerEvent(OrderPaymentFailedForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-payment-failed-for-customer-event", event);
+    outboxEventRecorder.record("order-payment-failed-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderCanceledForCustomerEvent(OrderCanceledForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-canceled-for-customer-event", event);
+    outboxEventRecorder.record("order-canceled-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderCanceledForSellerEvent(OrderCanceledForSellerEvent event) {
-    redisTemplate.convertAndSend("order-canceled-for-seller-event", event);
+    outboxEventRecorder.record("order-canceled-for-seller-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderStatusChangedForCustomerEvent(OrderStatusChangedForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-status-changed-for-customer-event", event);
+    outboxEventRecorder.record("order-status-changed-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleOrderStatusChangedForSellerEvent(OrderStatusChangedForSellerEvent event) {
-    redisTemplate.convertAndSend("order-status-changed-for-seller-event", event);
+    outboxEventRecorder.record("order-status-changed-for-seller-event", event);
   }
 }
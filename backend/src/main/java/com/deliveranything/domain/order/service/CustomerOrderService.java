@@ -8,14 +8,18 @@ import com.deliveranything.domain.order.entity.OrderItem;
 import com.deliveranything.domain.order.event.OrderCreatedEvent;
 import com.deliveranything.domain.order.repository.OrderRepository;
 import com.deliveranything.domain.order.repository.OrderRepositoryCustom;
+import com.deliveranything.domain.product.product.entity.Product;
 import com.deliveranything.domain.product.product.service.ProductService;
+import com.deliveranything.domain.product.stock.service.StockReservationService;
 import com.deliveranything.domain.store.store.service.StoreService;
 import com.deliveranything.domain.user.profile.service.CustomerProfileService;
 import com.deliveranything.global.common.CursorPageResponse;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import com.deliveranything.global.util.PointUtil;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -27,6 +31,7 @@ public class CustomerOrderService {
 
   private final CustomerProfileService customerProfileService;
   private final ProductService productService;
+  private final StockReservationService stockReservationService;
   private final StoreService storeService;
 
   private final OrderRepository orderRepository;
@@ -48,18 +53,29 @@ public class CustomerOrderService {
         .deliveryPrice(orderCreateRequest.deliveryPrice())
         .build();
 
-    for (OrderItemRequest orderItemRequest : orderCreateRequest.orderItemRequests()) {
+    // 주문 상품 일괄 조회 (IN 쿼리 1회)
+    List<OrderItemRequest> orderItemRequests = orderCreateRequest.orderItemRequests();
+    Map<Long, Product> products = productService.getProductsByIds(
+        orderItemRequests.stream().map(OrderItemRequest::productId).toList());
+
+    Map<Long, Integer> reservedQuantities = new LinkedHashMap<>();
+    for (OrderItemRequest orderItemRequest : orderItemRequests) {
       OrderItem orderItem = OrderItem.builder()
-          .product(productService.getProductById(orderItemRequest.productId()))
+          .product(products.get(orderItemRequest.productId()))
           .price(orderItemRequest.price())
           .quantity(orderItemRequest.quantity())
           .build();
 
       order.addOrderItem(orderItem);
+      reservedQuantities.merge(orderItemRequest.productId(),
+          toStockQuantity(orderItemRequest.quantity()), Math::addExact);
     }
 
+    // 전체 상품 재고를 한 번에 예약 (하나라도 부족하면 주문 실패, 롤백 시 예약 해제)
+    // 결제 완료 시 확정, 결제 실패 / 취소 / 거절 / 만료 시 해제 (StockReservationEventSubscriber)
+    stockReservationService.reserveAll(order.getMerchantId(), reservedQuantities);
+
     Order savedOrder = orderRepository.save(order);
-    // TODO: 재고가 없다면 주문 CANCELED나 재고 없음 상태로 이벤트 들어서 바꿔야함.
     // TODO: 재고가 확인됐다는 이벤트 받으면 재고Sub이 알림 호출해서 SSE로 클랄 전달
     eventPublisher.publishEvent(OrderCreatedEvent.from(savedOrder));
 
@@ -95,4 +111,11 @@ public class CustomerOrderService {
         orderRepository.findOrderWithStoreByIdAndCustomerId(orderId, customerId)
             .orElseThrow(() -> new CustomException(ErrorCode.CUSTOMER_ORDER_NOT_FOUND)));
   }
+
+  private static int toStockQuantity(Long quantity) {
+    if (quantity > Integer.MAX_VALUE) {
+      throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
+    }
+    return quantity.intValue();
+  }
 }
@@ -4,6 +4,7 @@ import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.enums.Publisher;
 import com.deliveranything.domain.order.event.OrderCompletedEvent;
+import com.deliveranything.domain.order.event.OrderRejectedEvent;
 import com.deliveranything.domain.order.event.sse.customer.OrderCanceledForCustomerEvent;
 import com.deliveranything.domain.order.event.sse.customer.OrderPaidForCustomerEvent;
 import com.deliveranything.domain.order.event.sse.customer.OrderPaymentFailedForCustomerEvent;
@@ -12,23 +13,33 @@ import com.deliveranything.domain.order.event.sse.seller.OrderCanceledForSellerE
 import com.deliveranything.domain.order.event.sse.seller.OrderPaidForSellerEvent;
 import com.deliveranything.domain.order.event.sse.seller.OrderStatusChangedForSellerEvent;
 import com.deliveranything.domain.order.repository.OrderRepository;
+import com.deliveranything.domain.product.stock.service.StockReservationService;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class OrderService {
 
   private final ApplicationEventPublisher eventPublisher;
   private final OrderRepository orderRepository;
+  private final StockReservationService stockReservationService;
 
   @Transactional
   public void processPaymentCompletion(String merchantUid) {
     Order order = getOrderWithStoreByMerchantId(merchantUid);
+    // 재전달된 결제 완료 이벤트 (이미 처리됨)
+    if (order.getStatus() != OrderStatus.CREATED) {
+      return;
+    }
     order.updateStatus(OrderStatus.PENDING);
 
     eventPublisher.publishEvent(OrderPaidForCustomerEvent.fromOrder(order));
@@ -38,6 +49,9 @@ public class OrderService {
   @Transactional
   public void processPaymentFailure(String merchantUid) {
     Order order = getOrderByMerchantId(merchantUid);
+    if (order.getStatus() == OrderStatus.PAYMENT_FAILED) {
+      return;
+    }
     order.updateStatus(OrderStatus.PAYMENT_FAILED);
 
     eventPublisher.publishEvent(OrderPaymentFailedForCustomerEvent.fromOrder(order));
@@ -46,6 +60,9 @@ public class OrderService {
   @Transactional
   public void processPaymentCancelSuccess(String merchantUid, Publisher publisher) {
     Order order = getOrderByMerchantId(merchantUid);
+    if (order.getStatus() == OrderStatus.CANCELED || order.getStatus() == OrderStatus.REJECTED) {
+      return;
+    }
     if (publisher == Publisher.CUSTOMER) {
       order.updateStatus(OrderStatus.CANCELED);
     } else if (publisher == Publisher.STORE) {
@@ -56,6 +73,40 @@ public class OrderService {
     eventPublisher.publishEvent(OrderCanceledForSellerEvent.fromOrder(order));
   }
 
+  /**
+   * 결제 전에 재고 예약이 만료된 주문 처리 (결제 완료 시 예약 확정 실패)
+   * <p>
+   * 주문 상품을 다시 예약해 확정하고, 예약할 수 없으면 주문을 거절해 결제를 취소(환불)한다.
+   */
+  @Transactional
+  public void processStockReservationExpired(String merchantUid) {
+    Order order = getOrderWithStoreByMerchantId(merchantUid);
+    if (order.getStatus() != OrderStatus.CREATED && order.getStatus() != OrderStatus.PENDING) {
+      log.warn("Stock reservation for order {} expired, but order is already {}",
+          merchantUid, order.getStatus());
+      return;
+    }
+
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    order.getOrderItems().forEach(orderItem -> quantities.merge(
+        orderItem.getProduct().getId(), Math.toIntExact(orderItem.getQuantity()),
+        Math::addExact));
+    try {
+      stockReservationService.reserveAll(merchantUid, quantities);
+      stockReservationService.commit(merchantUid);
+      return;
+    } catch (CustomException e) {
+      // 재고 부족 / 상품 삭제 등 다시 시도해도 예약할 수 없는 주문
+      log.warn("Stock for order {} could not be reserved again, rejecting: {}",
+          merchantUid, e.getMessage());
+    }
+
+    // 결제 완료 처리(PENDING) 전이어도 거절 상태로 바꿔 결제 완료 이벤트는 건너뛰게 함
+    order.updateStatus(OrderStatus.CANCELLATION_REQUESTED);
+    eventPublisher.publishEvent(
+        OrderRejectedEvent.from(order, "재고가 부족해 주문이 취소되었습니다.", Publisher.STORE));
+  }
+
   @Transactional
   public void processDeliveryRiderAssigned(Long orderId) {
     Order order = getOrderById(orderId);
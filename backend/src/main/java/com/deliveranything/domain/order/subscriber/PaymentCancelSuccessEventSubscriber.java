@@ -2,39 +2,32 @@ package com.deliveranything.domain.order.subscriber;
 
 import com.deliveranything.domain.order.service.OrderService;
 import com.deliveranything.domain.payment.event.PaymentCancelSuccessEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventTransport;
+import com.deliveranything.global.exception.CustomException;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class PaymentCancelSuccessEventSubscriber implements MessageListener {
+public class PaymentCancelSuccessEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventTransport eventTransport;
   private final OrderService orderService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("payment-cancel-success-event"));
+    eventTransport.subscribe("payment-cancel-success-event", "order",
+        PaymentCancelSuccessEvent.class, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
+  private void handle(PaymentCancelSuccessEvent event) {
     try {
-      PaymentCancelSuccessEvent event = objectMapper.readValue(message.getBody(),
-          PaymentCancelSuccessEvent.class);
       orderService.processPaymentCancelSuccess(event.merchantUid(), event.publisher());
-    } catch (Exception e) {
-      log.error("Failed to process payment cancel success event from Redis", e);
+    } catch (CustomException e) {
+      log.warn("Payment cancel handling failed for merchantUid {}: {}", event.merchantUid(), e.getMessage());
     }
   }
 }
@@ -2,38 +2,32 @@ package com.deliveranything.domain.order.subscriber;
 
 import com.deliveranything.domain.order.service.OrderService;
 import com.deliveranything.domain.payment.event.PaymentFailedEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventTransport;
+import com.deliveranything.global.exception.CustomException;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class PaymentFailedEventSubscriber implements MessageListener {
+public class PaymentFailedEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventTransport eventTransport;
   private final OrderService orderService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("payment-failed-event"));
+    eventTransport.subscribe("payment-failed-event", "order",
+        PaymentFailedEvent.class, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
+  private void handle(PaymentFailedEvent event) {
     try {
-      orderService.processPaymentFailure(objectMapper.readValue(new String(message.getBody()),
-          PaymentFailedEvent.class).merchantUid());
-    } catch (Exception e) {
-      log.error("Failed to process payment failed event from Redis", e);
+      orderService.processPaymentFailure(event.merchantUid());
+    } catch (CustomException e) {
+      log.warn("Payment failure handling failed for merchantUid {}: {}", event.merchantUid(), e.getMessage());
     }
   }
 }
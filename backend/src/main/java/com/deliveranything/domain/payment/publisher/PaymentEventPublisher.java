@@ -3,8 +3,8 @@ package com.deliveranything.domain.payment.publisher;
 import com.deliveranything.domain.payment.event.PaymentCancelSuccessEvent;
 import com.deliveranything.domain.payment.event.PaymentFailedEvent;
 import com.deliveranything.domain.payment.event.PaymentSuccessEvent;
+import com.deliveranything.global.event.outbox.OutboxEventRecorder;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -13,20 +13,20 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class PaymentEventPublisher {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final OutboxEventRecorder outboxEventRecorder;
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handlePaymentCompletedEvent(PaymentSuccessEvent event) {
-    redisTemplate.convertAndSend("payment-completed-event", event);
+    outboxEventRecorder.record("payment-completed-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handlePaymentFailedEvent(PaymentFailedEvent event) {
-    redisTemplate.convertAndSend("payment-failed-event", event);
+    outboxEventRecorder.record("payment-failed-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handlePaymentCancelSuccessEvent(PaymentCancelSuccessEvent event) {
-    redisTemplate.convertAndSend("payment-cancel-success-event", event);
+    outboxEventRecorder.record("payment-cancel-success-event", event);
   }
 }
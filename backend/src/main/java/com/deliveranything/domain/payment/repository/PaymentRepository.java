@@ -8,4 +8,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
   Optional<Payment> findByMerchantUidAndStatus(String merchantUid, PaymentStatus status);
+
+  boolean existsByMerchantUid(String merchantUid);
 }
@@ -50,6 +50,10 @@ public class PaymentService {
 
   @Transactional
   public void createPayment(String merchantUid, Long amount) {
+    // 재전달된 주문 생성 이벤트 (이미 결제 대기 생성됨)
+    if (paymentRepository.existsByMerchantUid(merchantUid)) {
+      return;
+    }
     paymentRepository.save(new Payment(merchantUid, amount));
   }
 
@@ -2,39 +2,32 @@ package com.deliveranything.domain.payment.subscirber;
 
 import com.deliveranything.domain.order.event.OrderCreatedEvent;
 import com.deliveranything.domain.payment.service.PaymentService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventTransport;
+import com.deliveranything.global.exception.CustomException;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderCreatedEventSubscriber implements MessageListener {
+public class OrderCreatedEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventTransport eventTransport;
   private final PaymentService paymentService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-created-event"));
+    eventTransport.subscribe("order-created-event", "payment",
+        OrderCreatedEvent.class, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
+  private void handle(OrderCreatedEvent event) {
     try {
-      OrderCreatedEvent event = objectMapper.readValue(new String(message.getBody()),
-          OrderCreatedEvent.class);
       paymentService.createPayment(event.merchantUid(), event.totalPrice());
-    } catch (Exception e) {
-      log.error("Failed to process order created event from Redis", e);
+    } catch (CustomException e) {
+      log.warn("Payment creation failed for merchantUid {}: {}", event.merchantUid(), e.getMessage());
     }
   }
 }
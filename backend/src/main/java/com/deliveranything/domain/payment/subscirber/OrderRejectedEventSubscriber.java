@@ -2,47 +2,33 @@ package com.deliveranything.domain.payment.subscirber;
 
 import com.deliveranything.domain.order.event.OrderRejectedEvent;
 import com.deliveranything.domain.payment.service.PaymentService;
+import com.deliveranything.global.event.EventTransport;
 import com.deliveranything.global.exception.CustomException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderRejectedEventSubscriber implements MessageListener {
+public class OrderRejectedEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventTransport eventTransport;
   private final PaymentService paymentService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-rejected-event"));
+    eventTransport.subscribe("order-rejected-event", "payment",
+        OrderRejectedEvent.class, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    OrderRejectedEvent event = null;
+  private void handle(OrderRejectedEvent event) {
     try {
-      event = objectMapper.readValue(new String(message.getBody()), OrderRejectedEvent.class);
       paymentService.cancelPayment(event.merchantUid(), event.cancelReason(), event.publisher());
     } catch (CustomException e) {
-      if (event != null) {
-        log.warn("Payment cancel failed for order {}: {}", event.orderId(), e.getMessage());
-        // TODO 결제가 SSE에다가 상점의 개인 사정으로 주문 취소 되었다. 3일 내에 계좌에 직접 환불된다. 전달
-      } else {
-        log.error("Failed to get payment request message from Redis", e);
-      }
-    } catch (Exception e) {
-      log.error("Failed to process order rejected event from Redis", e);
+      log.warn("Payment cancel failed for order {}: {}", event.orderId(), e.getMessage());
+      // TODO 결제가 SSE에다가 상점의 개인 사정으로 주문 취소 되었다. 3일 내에 계좌에 직접 환불된다. 전달
     }
   }
 }
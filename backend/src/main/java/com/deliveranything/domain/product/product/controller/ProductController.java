@@ -15,7 +15,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -58,19 +57,7 @@ public class ProductController {
       @Parameter(description = "상품을 조회할 상점 ID") @PathVariable Long storeId,
       @Valid @ModelAttribute ProductSearchRequest request
   ) {
-    Slice<ProductResponse> results = productService.searchProducts(storeId, request);
-
-    String nextToken = null;
-    if (results.hasNext()) {
-      ProductResponse lastProduct = results.getContent().getLast();
-      nextToken = String.valueOf(lastProduct.productId());
-    }
-
-    CursorPageResponse<ProductResponse> response = new CursorPageResponse<>(
-        results.getContent(),
-        nextToken,
-        results.hasNext()
-    );
+    CursorPageResponse<ProductResponse> response = productService.searchProducts(storeId, request);
 
     return ResponseEntity.ok(ApiResponse.success(response));
   }
@@ -1,6 +1,7 @@
 package com.deliveranything.domain.product.product.dto;
 
 import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.search.product.entity.ProductDocument;
 
 public record ProductResponse(
     Long productId,
@@ -19,4 +20,14 @@ public record ProductResponse(
         product.getImageUrl()
     );
   }
-}
\ No newline at end of file
+
+  public static ProductResponse from(ProductDocument document) {
+    return new ProductResponse(
+        document.getId(),
+        document.getStoreId(),
+        document.getName(),
+        document.getPrice(),
+        document.getImageUrl()
+    );
+  }
+}
@@ -0,0 +1,11 @@
+package com.deliveranything.domain.product.product.dto.projection;
+
+public record ProductKeywordSourceProjection(
+    Long productId,
+    Long storeId,
+    String name,
+    String description,
+    String keywordSourceHash
+) {
+
+}
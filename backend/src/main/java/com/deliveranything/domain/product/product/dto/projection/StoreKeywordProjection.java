@@ -0,0 +1,8 @@
+package com.deliveranything.domain.product.product.dto.projection;
+
+public record StoreKeywordProjection(
+    Long storeId,
+    String keyword
+) {
+
+}
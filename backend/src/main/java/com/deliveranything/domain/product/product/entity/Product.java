@@ -67,6 +67,10 @@ public class Product extends BaseEntity {
   )
   private List<String> keywords = new ArrayList<>();
 
+  // 키워드를 만들 때 사용한 상품명 / 설명의 해시 (바뀌지 않았으면 다시 생성하지 않음)
+  @Column(name = "keyword_source_hash", length = 64)
+  private String keywordSourceHash;
+
   @Setter
   @OneToOne(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
   private Stock stock;
@@ -82,6 +86,11 @@ public class Product extends BaseEntity {
     }
   }
 
+  public void updateKeywords(String keywords, String sourceHash) {
+    setKeywords(keywords);
+    this.keywordSourceHash = sourceHash;
+  }
+
   @Builder
   public Product(Store store, String name, String description, Integer price, String imageUrl, Integer initialStock) {
     if (store == null || name == null || price == null || imageUrl == null) {
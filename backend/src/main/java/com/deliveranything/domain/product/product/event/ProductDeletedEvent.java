@@ -0,0 +1,10 @@
+package com.deliveranything.domain.product.product.event;
+
+public record ProductDeletedEvent(
+    Long productId,
+    ProductEventType type
+) {
+  public ProductDeletedEvent(Long productId) {
+    this(productId, ProductEventType.DELETED);
+  }
+}
@@ -0,0 +1,6 @@
+package com.deliveranything.domain.product.product.event;
+
+public enum ProductEventType {
+  SAVED,
+  DELETED
+}
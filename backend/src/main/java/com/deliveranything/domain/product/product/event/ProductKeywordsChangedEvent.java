@@ -1,8 +1,11 @@
 package com.deliveranything.domain.product.product.event;
 
+import java.util.List;
+
+// 키워드 생성 배치 단위로 매장별 1건
 public record ProductKeywordsChangedEvent(
     Long storeId,
-    Long productId
+    List<Long> productIds
 ) {
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.deliveranything.domain.product.product.event;
+
+public record ProductSavedEvent(
+    Long productId,
+    ProductEventType type
+) {
+  public ProductSavedEvent(Long productId) {
+    this(productId, ProductEventType.SAVED);
+  }
+}
@@ -1,8 +1,10 @@
 package com.deliveranything.domain.product.product.publisher;
 
+import com.deliveranything.domain.product.product.event.ProductDeletedEvent;
 import com.deliveranything.domain.product.product.event.ProductKeywordsChangedEvent;
+import com.deliveranything.domain.product.product.event.ProductSavedEvent;
+import com.deliveranything.global.event.outbox.OutboxEventRecorder;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -11,10 +13,20 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class ProductEventPublisher {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final OutboxEventRecorder outboxEventRecorder;
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleProductKeywordsChangedEvent(ProductKeywordsChangedEvent event) {
-    redisTemplate.convertAndSend("product-events", event);
+    outboxEventRecorder.record("product-keywords-events", event);
   }
-}
\ No newline at end of file
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+  public void handleProductSavedEvent(ProductSavedEvent event) {
+    outboxEventRecorder.record("product-events", event);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+  public void handleProductDeletedEvent(ProductDeletedEvent event) {
+    outboxEventRecorder.record("product-events", event);
+  }
+}
@@ -1,15 +1,61 @@
 package com.deliveranything.domain.product.product.repository;
 
+import com.deliveranything.domain.product.product.dto.projection.ProductKeywordProjection;
+import com.deliveranything.domain.product.product.dto.projection.ProductKeywordSourceProjection;
+import com.deliveranything.domain.product.product.dto.projection.StoreKeywordProjection;
 import com.deliveranything.domain.product.product.entity.Product;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
   List<Product> findAllByStoreId(Long storeId);
 
+  // 키워드 생성 대상 선별용 (엔티티 / 키워드 컬렉션 로딩 없이 IN 쿼리 1회)
+  @Query("""
+      SELECT new com.deliveranything.domain.product.product.dto.projection.ProductKeywordSourceProjection(
+          p.id, p.store.id, p.name, p.description, p.keywordSourceHash)
+      FROM Product p
+      WHERE p.id IN :productIds
+      """)
+  List<ProductKeywordSourceProjection> findKeywordSourcesByIdIn(
+      @Param("productIds") Collection<Long> productIds);
+
+  // 검색 색인 키워드 동기화용 (매장별 상품 키워드를 상품 엔티티 로딩 없이 IN 쿼리 1회로 조회)
+  @Query("""
+      SELECT DISTINCT new com.deliveranything.domain.product.product.dto.projection.StoreKeywordProjection(
+          p.store.id, k)
+      FROM Product p
+      JOIN p.keywords k
+      WHERE p.store.id IN :storeIds
+      """)
+  List<StoreKeywordProjection> findKeywordsByStoreIdIn(@Param("storeIds") Collection<Long> storeIds);
+
+  // 상품 검색 색인용 (상품마다 키워드 컬렉션을 지연 로딩하지 않고 IN 쿼리 1회로 조회)
+  @Query("""
+      SELECT new com.deliveranything.domain.product.product.dto.projection.ProductKeywordProjection(
+          p.id, k)
+      FROM Product p
+      JOIN p.keywords k
+      WHERE p.id IN :productIds
+      """)
+  List<ProductKeywordProjection> findKeywordsByProductIdIn(
+      @Param("productIds") Collection<Long> productIds);
+
+  // 상품 검색 초기 색인용 id 기준 keyset 배치
+  @Query("""
+      SELECT p FROM Product p
+      WHERE p.id > :lastId
+      ORDER BY p.id
+      """)
+  List<Product> findBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
+
   default Product getById(Long productId) {
     return findById(productId)
         .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -1,93 +1,299 @@
 package com.deliveranything.domain.product.product.service;
 
+import com.deliveranything.domain.product.product.dto.projection.ProductKeywordSourceProjection;
 import com.deliveranything.domain.product.product.entity.Product;
 import com.deliveranything.domain.product.product.event.ProductKeywordsChangedEvent;
 import com.deliveranything.domain.product.product.repository.ProductRepository;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
-
-import java.util.List;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+/**
+ * 상품 키워드 생성 대기열
+ * <p>
+ * 상품 생성 / 수정이 커밋되면 product:keywords:pending (Redis Set, 중복 제거) 에 넣고, 전용 스레드가 batch-size 개씩 꺼내 한
+ * 프롬프트로 Gemini 에 요청한다. 동시 요청 수와 분당 요청 수를 제한하고, 원격 호출 중에는 DB 커넥션을 잡지 않는다 (조회 / 저장만 짧게).
+ * <p>
+ * 상품명 / 설명 해시가 마지막 생성 때와 같으면 건너뛰고, 저장 후 매장별로 ProductKeywordsChangedEvent 를 1건씩 발행한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KeywordGenerationService {
 
+  private static final String PENDING_KEY = "product:keywords:pending";
+
   private final ProductRepository productRepository;
   private final ApplicationEventPublisher eventPublisher;
-  private final WebClient.Builder webClientBuilder;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final WebClient webClient;
+
+  private final String geminiApiKey;
+  private final String geminiApiUrl;
+  private final int batchSize;
+  private final long pacingNanos;
+  private final Duration pollInterval;
+  private final Duration requestTimeout;
 
-  @Value("${gemini.api.key}")
-  private String geminiApiKey;
+  private final Semaphore inFlight;
+  private final ScheduledExecutorService pollExecutor = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("keyword-generation").daemon().factory());
+  private final ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private long nextRequestNanos = System.nanoTime(); // poll 스레드에서만 사용
 
-  @Value("${gemini.api.url}")
-  private String geminiApiUrl;
+  public KeywordGenerationService(ProductRepository productRepository,
+      ApplicationEventPublisher eventPublisher, StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+      WebClient.Builder webClientBuilder,
+      @Value("${gemini.api.key}") String geminiApiKey,
+      @Value("${gemini.api.url}") String geminiApiUrl,
+      @Value("${product.keywords.batch-size:20}") int batchSize,
+      @Value("${product.keywords.concurrency:2}") int concurrency,
+      @Value("${product.keywords.requests-per-minute:30}") int requestsPerMinute,
+      @Value("${product.keywords.poll-interval:1s}") Duration pollInterval,
+      @Value("${product.keywords.request-timeout:30s}") Duration requestTimeout) {
+    this.productRepository = productRepository;
+    this.eventPublisher = eventPublisher;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = transactionTemplate;
+    this.webClient = webClientBuilder.build();
+    this.geminiApiKey = geminiApiKey;
+    this.geminiApiUrl = geminiApiUrl;
+    this.batchSize = batchSize;
+    this.pacingNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, requestsPerMinute);
+    this.pollInterval = pollInterval;
+    this.requestTimeout = requestTimeout;
+    this.inFlight = new Semaphore(Math.max(1, concurrency));
+  }
 
-  @Async
-  @Transactional
-  public void generateAndSaveKeywords(Long productId) {
-    Product product = productRepository.findById(productId)
-        .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+  @PostConstruct
+  public void start() {
+    pollExecutor.scheduleWithFixedDelay(this::drain, pollInterval.toMillis(),
+        pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
 
-    String prompt = createPrompt(product.getName(), product.getDescription());
+  @PreDestroy
+  public void stop() {
+    pollExecutor.shutdownNow();
+    requestExecutor.shutdown();
+  }
 
-    GeminiRequest.Content promptContent = new GeminiRequest.Content(List.of(new GeminiRequest.Part(prompt)));
-    GeminiRequest request = new GeminiRequest(List.of(promptContent));
+  // 상품 생성 / 수정 트랜잭션이 커밋된 뒤 대기열에 넣음 (롤백되면 넣지 않음)
+  public void enqueue(Long productId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      enqueueAll(List.of(productId));
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        enqueueAll(List.of(productId));
+      }
+    });
+  }
 
+  private void enqueueAll(Collection<Long> productIds) {
+    redisTemplate.opsForSet().add(PENDING_KEY,
+        productIds.stream().map(String::valueOf).toArray(String[]::new));
+  }
+
+  // 허용된 동시 요청 수 / 요청 간격 안에서 대기열이 빌 때까지 배치를 꺼내 요청
+  private void drain() {
     try {
-      GeminiResponse response = webClientBuilder.build()
-          .post()
-          .uri(geminiApiUrl)
-          .header("x-goog-api-key", geminiApiKey)
-          .body(Mono.just(request), GeminiRequest.class)
-          .retrieve()
-          .bodyToMono(GeminiResponse.class)
-          .block();
-
-      if (response != null && response.candidates() != null && !response.candidates().isEmpty()) {
-        String keywords = response.candidates().getFirst().content().parts().getFirst().text().trim();
-        product.setKeywords(keywords);
-        log.info("Generated keywords for product {}: {}", productId, keywords);
-
-        eventPublisher.publishEvent(new ProductKeywordsChangedEvent(
-            product.getStore().getId(), product.getId()
-        ));
+      while (true) {
+        inFlight.acquire();
+        List<String> popped = redisTemplate.opsForSet().pop(PENDING_KEY, batchSize);
+        if (popped == null || popped.isEmpty()) {
+          inFlight.release();
+          return;
+        }
+        pace();
+        List<Long> productIds = popped.stream().map(Long::valueOf).toList();
+        requestExecutor.execute(() -> {
+          try {
+            generate(productIds);
+          } catch (Exception e) {
+            log.error("Failed to generate keywords for products {}", productIds, e);
+          } finally {
+            inFlight.release();
+          }
+        });
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.warn("Keyword generation queue drain failed: {}", e.getMessage());
+    }
+  }
 
+  private void generate(List<Long> productIds) {
+    // 1. 상품명 / 설명이 마지막 생성 이후 바뀐 상품만
+    Map<Long, ProductKeywordSourceProjection> sources = new LinkedHashMap<>();
+    for (ProductKeywordSourceProjection source :
+        productRepository.findKeywordSourcesByIdIn(productIds)) {
+      if (!sourceHash(source).equals(source.keywordSourceHash())) {
+        sources.put(source.productId(), source);
+      }
+    }
+    if (sources.isEmpty()) {
+      return;
+    }
+
+    // 2. 배치 전체를 한 프롬프트로 요청 (DB 커넥션 없이)
+    Map<Long, String> keywords;
+    try {
+      keywords = requestKeywords(sources.values());
     } catch (Exception e) {
-      log.error("Failed to generate keywords for product {}: {}", productId, e.getMessage(), e);
+      log.warn("Failed to generate keywords for products {}: {}", sources.keySet(),
+          e.getMessage());
+      if (isRetryable(e)) {
+        enqueueAll(sources.keySet()); // 다음 주기에 재시도
+      }
+      return;
+    }
+
+    // 3. 저장 + 매장별 이벤트 1건
+    transactionTemplate.executeWithoutResult(status -> save(sources, keywords));
+  }
+
+  private void save(Map<Long, ProductKeywordSourceProjection> sources,
+      Map<Long, String> keywords) {
+    Map<Long, List<Long>> changedByStore = new LinkedHashMap<>();
+    for (Product product : productRepository.findAllById(keywords.keySet())) {
+      ProductKeywordSourceProjection source = sources.get(product.getId());
+      // 요청 중에 수정된 상품은 그 수정이 대기열에 다시 넣었으므로 이번 결과는 버림
+      if (source == null || !Objects.equals(source.name(), product.getName())
+          || !Objects.equals(source.description(), product.getDescription())) {
+        continue;
+      }
+      product.updateKeywords(keywords.get(product.getId()), sourceHash(source));
+      changedByStore.computeIfAbsent(source.storeId(), storeId -> new ArrayList<>())
+          .add(product.getId());
+    }
+    log.info("Generated keywords for products {}", changedByStore);
+    changedByStore.forEach((storeId, changedProductIds) ->
+        eventPublisher.publishEvent(new ProductKeywordsChangedEvent(storeId, changedProductIds)));
+  }
+
+  // 상품 ID -> 쉼표로 구분된 키워드
+  private Map<Long, String> requestKeywords(Collection<ProductKeywordSourceProjection> sources)
+      throws JsonProcessingException {
+    GeminiRequest.Content promptContent =
+        new GeminiRequest.Content(List.of(new GeminiRequest.Part(createPrompt(sources))));
+    GeminiRequest request = new GeminiRequest(List.of(promptContent),
+        new GeminiRequest.GenerationConfig("application/json"));
+
+    GeminiResponse response = webClient.post()
+        .uri(geminiApiUrl)
+        .header("x-goog-api-key", geminiApiKey)
+        .bodyValue(request)
+        .retrieve()
+        .bodyToMono(GeminiResponse.class)
+        .block(requestTimeout);
+
+    if (response == null || response.candidates() == null || response.candidates().isEmpty()) {
+      return Map.of();
     }
+    String text = response.candidates().getFirst().content().parts().getFirst().text().trim();
+    Map<String, String> parsed = objectMapper.readValue(text, new TypeReference<>() {
+    });
+
+    Map<Long, String> keywords = new LinkedHashMap<>();
+    parsed.forEach((productId, value) -> {
+      if (!productId.isEmpty() && productId.chars().allMatch(Character::isDigit)
+          && value != null && !value.isBlank()) {
+        keywords.put(Long.valueOf(productId), value.trim());
+      }
+    });
+    return keywords;
   }
 
-  private String createPrompt(String productName, String productDescription) {
+  private String createPrompt(Collection<ProductKeywordSourceProjection> sources) {
+    StringBuilder products = new StringBuilder();
+    sources.forEach(source -> products.append(String.format("- ID: %d / 상품명: %s / 상품설명: %s%n",
+        source.productId(), source.name(), source.description())));
+
     return String.format("""
-                다음 상품 정보에 대한 검색 키워드를 5~10개 사이로, 쉼표(,)로 구분하여 생성해줘.
+                다음 상품들 각각에 대한 검색 키워드를 5~10개 사이로, 쉼표(,)로 구분하여 생성해줘.
                 - 키워드는 명사 형태여야 함
                 - 상품의 특징, 재료, 용도, 감성 등을 잘 나타내야 함
-                - 다른 설명 없이 키워드만 응답해야 함
+                - 다른 설명 없이 상품 ID 를 키, 키워드 문자열을 값으로 하는 JSON 객체로만 응답해야 함
 
                 [상품 정보]
-                - 상품명: %s
-                - 상품설명: %s
-
+                %s
                 [생성 예시]
-                달콤한,디저트,선물용,수제,딸기케이크
+                {"101": "달콤한,디저트,선물용,수제,딸기케이크", "102": "아메리카노,커피,원두,음료"}
 
                 [키워드]
-                """, productName, productDescription);
+                """, products);
+  }
+
+  // 분당 요청 수 상한에 맞춰 요청 간격 유지
+  private void pace() throws InterruptedException {
+    long waitNanos = nextRequestNanos - System.nanoTime();
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+    nextRequestNanos = Math.max(nextRequestNanos, System.nanoTime()) + pacingNanos;
+  }
+
+  // 네트워크 오류 / 타임아웃 (block 이 IllegalStateException) / 429 / 5xx 만 재시도
+  // 잘못된 요청 / 응답 형식 오류는 반복해도 같은 결과이므로 버림
+  private static boolean isRetryable(Exception e) {
+    if (e instanceof WebClientResponseException response) {
+      return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+    }
+    return e instanceof WebClientRequestException || e instanceof IllegalStateException;
+  }
+
+  private static String sourceHash(ProductKeywordSourceProjection source) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(source.name().getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\n');
+      digest.update(Objects.toString(source.description(), "").getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
   }
 
   // --- DTO for Gemini API ---
-  private record GeminiRequest(List<Content> contents) {
+  private record GeminiRequest(List<Content> contents, GenerationConfig generationConfig) {
     private record Content(List<Part> parts) {}
     private record Part(String text) {}
+    private record GenerationConfig(String responseMimeType) {}
   }
 
   private record GeminiResponse(List<Candidate> candidates) {
@@ -95,4 +301,4 @@ public class KeywordGenerationService {
     private record Content(List<Part> parts) {}
     private record Part(String text) {}
   }
-}
\ No newline at end of file
+}
@@ -6,14 +6,32 @@ import com.deliveranything.domain.product.product.dto.ProductResponse;
 import com.deliveranything.domain.product.product.dto.ProductSearchRequest;
 import com.deliveranything.domain.product.product.dto.ProductUpdateRequest;
 import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.product.product.event.ProductDeletedEvent;
+import com.deliveranything.domain.product.product.event.ProductSavedEvent;
 import com.deliveranything.domain.product.product.repository.ProductRepository;
+import com.deliveranything.domain.search.product.entity.ProductDocument;
+import com.deliveranything.domain.search.product.repository.ProductSearchRepository;
+import com.deliveranything.domain.search.product.service.ProductIndexService;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.store.store.service.StoreService;
+import com.deliveranything.global.common.CursorPageResponse;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService {
@@ -21,6 +39,9 @@ public class ProductService {
   private final ProductRepository productRepository;
   private final StoreService storeService;
   private final KeywordGenerationService keywordGenerationService;
+  private final ProductSearchRepository productSearchRepository;
+  private final ProductIndexService productIndexService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public ProductResponse createProduct(Long storeId, ProductCreateRequest request) {
@@ -36,7 +57,8 @@ public class ProductService {
         .build();
 
     Product saveProduct = productRepository.save(product);
-    keywordGenerationService.generateAndSaveKeywords(saveProduct.getId());
+    keywordGenerationService.enqueue(saveProduct.getId());
+    eventPublisher.publishEvent(new ProductSavedEvent(saveProduct.getId()));
 
     return ProductResponse.from(saveProduct);
   }
@@ -46,6 +68,7 @@ public class ProductService {
     Product product = productRepository.getById(productId);
     product.validateStore(storeId);
     productRepository.delete(product);
+    eventPublisher.publishEvent(new ProductDeletedEvent(productId));
   }
 
   @Transactional
@@ -58,9 +81,11 @@ public class ProductService {
 
     product.update(request.name(), request.description(), request.price(), request.imageUrl());
 
-    if (!oldName.equals(request.name()) || !oldDescription.equals(request.description())) {
-      keywordGenerationService.generateAndSaveKeywords(product.getId());
+    if (!oldName.equals(product.getName())
+        || !Objects.equals(oldDescription, product.getDescription())) {
+      keywordGenerationService.enqueue(product.getId());
     }
+    eventPublisher.publishEvent(new ProductSavedEvent(product.getId()));
 
     return ProductResponse.from(product);
   }
@@ -72,17 +97,54 @@ public class ProductService {
     return ProductDetailResponse.from(product);
   }
 
+  // ES 색인이 준비됐으면 ES 로 검색하고, 준비 전이거나 ES 호출이 실패하면 SQL 로 조회
   @Transactional(readOnly = true)
-  public Slice<ProductResponse> searchProducts(Long storeId, ProductSearchRequest request) {
+  public CursorPageResponse<ProductResponse> searchProducts(Long storeId,
+      ProductSearchRequest request) {
     storeService.getStoreById(storeId);
 
+    if (productIndexService.isReady()) {
+      try {
+        CursorPageResponse<ProductDocument> results = productSearchRepository.search(storeId,
+            request);
+        return new CursorPageResponse<>(
+            results.content().stream().map(ProductResponse::from).toList(),
+            results.nextPageToken(),
+            results.hasNext()
+        );
+      } catch (DataAccessException e) {
+        log.warn("Product search on Elasticsearch failed, falling back to SQL: {}",
+            e.getMessage());
+      }
+    }
+
     Slice<Product> results = productRepository.search(storeId, request);
 
-    return results.map(ProductResponse::from);
+    String nextToken = null;
+    if (results.hasNext()) {
+      nextToken = String.valueOf(results.getContent().getLast().getId());
+    }
+
+    return new CursorPageResponse<>(
+        results.getContent().stream().map(ProductResponse::from).toList(),
+        nextToken,
+        results.hasNext()
+    );
   }
 
   @Transactional(readOnly = true)
   public Product getProductById(Long productId) {
     return productRepository.getById(productId);
   }
+
+  // 주문 상품 일괄 조회 (IN 쿼리 1회), 하나라도 없으면 예외
+  @Transactional(readOnly = true)
+  public Map<Long, Product> getProductsByIds(Collection<Long> productIds) {
+    Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+        .collect(Collectors.toMap(Product::getId, Function.identity()));
+    if (products.size() != new HashSet<>(productIds).size()) {
+      throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+    }
+    return products;
+  }
 }
\ No newline at end of file
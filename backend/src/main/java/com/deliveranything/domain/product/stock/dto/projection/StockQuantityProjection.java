@@ -0,0 +1,8 @@
+package com.deliveranything.domain.product.stock.dto.projection;
+
+public record StockQuantityProjection(
+    Long productId,
+    Integer quantity
+) {
+
+}
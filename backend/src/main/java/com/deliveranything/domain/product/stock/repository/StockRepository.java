@@ -1,10 +1,16 @@
 package com.deliveranything.domain.product.stock.repository;
 
+import com.deliveranything.domain.product.stock.dto.projection.StockQuantityProjection;
 import com.deliveranything.domain.product.stock.entity.Stock;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StockRepository extends JpaRepository<Stock, Long> {
 
@@ -14,4 +20,32 @@ public interface StockRepository extends JpaRepository<Stock, Long> {
     return findByProductId(productId)
         .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
   }
+
+  // Redis 재고 카운터 로드용 (주문 상품 전체를 IN 쿼리 1회로 조회)
+  @Query("""
+      SELECT new com.deliveranything.domain.product.stock.dto.projection.StockQuantityProjection(
+          s.product.id, s.quantity)
+      FROM Stock s
+      WHERE s.product.id IN :productIds
+      """)
+  List<StockQuantityProjection> findQuantitiesByProductIdIn(
+      @Param("productIds") Collection<Long> productIds);
+
+  // Redis 재고 write-back (엔티티를 읽지 않고 갱신, 버전 증가로 진행 중인 관리자 수정과 충돌 감지)
+  @Modifying
+  @Query("""
+      UPDATE Stock s SET s.quantity = :quantity, s.version = s.version + 1
+      WHERE s.product.id = :productId
+      """)
+  int updateQuantityByProductId(@Param("productId") Long productId,
+      @Param("quantity") int quantity);
+
+  // Redis 에 재고가 없는 상품의 예약 반환
+  @Modifying
+  @Query("""
+      UPDATE Stock s SET s.quantity = s.quantity + :amount, s.version = s.version + 1
+      WHERE s.product.id = :productId
+      """)
+  int increaseQuantityByProductId(@Param("productId") Long productId,
+      @Param("amount") int amount);
 }
@@ -0,0 +1,94 @@
+package com.deliveranything.domain.product.stock.scheduler;
+
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.domain.product.stock.service.StockReservationService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationScheduler {
+
+  private static final String WRITE_BACK_LOCK_KEY = "stock:write-back:lock";
+
+  // 본인이 잡은 락만 해제
+  private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final StockReservationService stockReservationService;
+  private final StockRepository stockRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${stock.write-back.batch-size:500}")
+  private int writeBackBatchSize;
+
+  @Value("${stock.write-back.lock-ttl:30s}")
+  private Duration writeBackLockTtl;
+
+  @Value("${stock.reservation.sweep-batch-size:200}")
+  private int sweepBatchSize;
+
+  // Redis 재고를 stocks 테이블에 반영
+  // 늦게 읽은 값이 먼저 쓰이는 역전을 막기 위해 한 번에 한 노드만 실행
+  @Scheduled(fixedDelayString = "${stock.write-back.interval:1000}")
+  public void writeBack() {
+    String lockValue = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+        .setIfAbsent(WRITE_BACK_LOCK_KEY, lockValue, writeBackLockTtl))) {
+      return; // 다른 노드가 처리 중
+    }
+    try {
+      List<Long> productIds;
+      while (!(productIds = stockReservationService.popDirtyProductIds(writeBackBatchSize))
+          .isEmpty()) {
+        writeBackBatch(productIds);
+      }
+    } catch (Exception e) {
+      log.error("재고 write-back 실패", e);
+    } finally {
+      redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(WRITE_BACK_LOCK_KEY), lockValue);
+    }
+  }
+
+  // 만료된 예약 해제 (해제 스크립트가 멱등이므로 락 없이 모든 노드에서 실행)
+  @Scheduled(fixedDelayString = "${stock.reservation.sweep-interval:5000}")
+  public void releaseExpiredReservations() {
+    try {
+      List<String> expired;
+      while (!(expired = stockReservationService.findExpiredReservationIds(sweepBatchSize))
+          .isEmpty()) {
+        expired.forEach(stockReservationService::release);
+        log.info("만료된 재고 예약 {}건 해제", expired.size());
+      }
+    } catch (Exception e) {
+      log.error("만료 재고 예약 해제 실패", e);
+    }
+  }
+
+  private void writeBackBatch(List<Long> productIds) {
+    try {
+      Map<Long, Integer> quantities = stockReservationService.getAvailableQuantities(productIds);
+      transactionTemplate.executeWithoutResult(status ->
+          quantities.forEach(stockRepository::updateQuantityByProductId));
+    } catch (RuntimeException e) {
+      stockReservationService.markDirty(productIds);
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,363 @@
+package com.deliveranything.domain.product.stock.service;
+
+import com.deliveranything.domain.product.stock.dto.projection.StockQuantityProjection;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis 재고 카운터 + 예약
+ * <p>
+ * - stock:available:{productId}: 판매 가능 수량 (예약된 수량은 이미 차감됨). 처음 사용할 때 DB 값으로 채운다.
+ * <p>
+ * - stock:reservation:{reservationId}: 예약 내역 (productId -> 수량). 결제 완료 시 commit 으로
+ * stock:committed:{reservationId} 로 옮기고(committed-ttl 동안 보관), 실패 / 취소 / 거절 / 만료 시 release 로 수량을 되돌린다.
+ * <p>
+ * - stock:reservations:expiring: 예약 만료 시각 (score), StockReservationScheduler 가 만료된 예약을 release 한다.
+ * <p>
+ * - stock:dirty: 카운터가 바뀐 상품 ID, StockReservationScheduler 가 주기적으로 stocks 테이블에 반영한다.
+ * <p>
+ * 예약 해제 스크립트는 상품 키를 예약 내역에서 읽어 만들기 때문에 단일 Redis (비클러스터) 구성을 전제로 한다.
+ */
+@Slf4j
+@Service
+public class StockReservationService {
+
+  private static final String AVAILABLE_KEY_PREFIX = "stock:available:";
+  private static final String RESERVATION_KEY_PREFIX = "stock:reservation:";
+  private static final String COMMITTED_KEY_PREFIX = "stock:committed:";
+  private static final String EXPIRING_KEY = "stock:reservations:expiring";
+  private static final String DIRTY_KEY = "stock:dirty";
+
+  private static final long RESERVED = 0;
+  private static final long NOT_LOADED = -2;
+  private static final long INSUFFICIENT = -1;
+  private static final long OVERFLOW = -3;
+
+  // 주문의 모든 상품 재고를 한 번에 확인 후 차감 (전부 성공하거나 전부 실패)
+  // KEYS: 예약, 만료 zset, dirty, 상품별 카운터... / ARGV: reservationId, 만료 시각, (productId, 수량)...
+  // 반환: {0} 성공, {-2, 카운터가 없는 productId...}, {-1, 재고가 부족한 productId}
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> RESERVE_SCRIPT = RedisScript.of("""
+      local count = #KEYS - 3
+      local missing = {'-2'}
+      for i = 1, count do
+        if redis.call('EXISTS', KEYS[i + 3]) == 0 then
+          table.insert(missing, ARGV[1 + i * 2])
+        end
+      end
+      if #missing > 1 then
+        return missing
+      end
+      for i = 1, count do
+        if tonumber(redis.call('GET', KEYS[i + 3])) < tonumber(ARGV[2 + i * 2]) then
+          return {'-1', ARGV[1 + i * 2]}
+        end
+      end
+      for i = 1, count do
+        local productId = ARGV[1 + i * 2]
+        local quantity = tonumber(ARGV[2 + i * 2])
+        redis.call('DECRBY', KEYS[i + 3], quantity)
+        redis.call('HINCRBY', KEYS[1], productId, quantity)
+        redis.call('SADD', KEYS[3], productId)
+      end
+      redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+      return {'0'}
+      """, List.class);
+
+  // 예약 확정 (차감은 예약 시점에 끝났으므로 내역만 committed 로 이동), 이미 해제된 예약이면 0
+  private static final RedisScript<Long> COMMIT_SCRIPT = RedisScript.of("""
+      redis.call('ZREM', KEYS[2], ARGV[1])
+      if redis.call('EXISTS', KEYS[3]) == 1 then
+        return 1
+      end
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return 0
+      end
+      redis.call('RENAME', KEYS[1], KEYS[3])
+      redis.call('PEXPIRE', KEYS[3], ARGV[2])
+      return 1
+      """, Long.class);
+
+  // 예약(또는 확정된 예약) 수량 반환
+  // Redis 에 카운터가 없는 상품은 (productId, 수량) 목록으로 돌려줘 DB 에 직접 반영
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> RELEASE_SCRIPT = RedisScript.of("""
+      local items = redis.call('HGETALL', KEYS[1])
+      if #items == 0 then
+        items = redis.call('HGETALL', KEYS[4])
+      end
+      redis.call('DEL', KEYS[1], KEYS[4])
+      redis.call('ZREM', KEYS[2], ARGV[1])
+      local missing = {}
+      for i = 1, #items, 2 do
+        local key = ARGV[2] .. items[i]
+        if redis.call('EXISTS', key) == 1 then
+          redis.call('INCRBY', key, items[i + 1])
+          redis.call('SADD', KEYS[3], items[i])
+        else
+          table.insert(missing, items[i])
+          table.insert(missing, items[i + 1])
+        end
+      end
+      return missing
+      """, List.class);
+
+  // 예약 없이 재고 증감 (0 미만 / int 범위 초과 불가)
+  private static final RedisScript<Long> ADJUST_SCRIPT = RedisScript.of("""
+      local available = redis.call('GET', KEYS[1])
+      if not available then
+        return -2
+      end
+      local next = tonumber(available) + tonumber(ARGV[2])
+      if next < 0 then
+        return -1
+      end
+      if next > 2147483647 then
+        return -3
+      end
+      redis.call('SET', KEYS[1], next)
+      redis.call('SADD', KEYS[2], ARGV[1])
+      return next
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final StockRepository stockRepository;
+  // afterCompletion 에서도 호출되므로 항상 새 트랜잭션으로 실행
+  private final TransactionTemplate requiresNewTemplate;
+
+  @Value("${stock.reservation.ttl:15m}")
+  private Duration reservationTtl;
+
+  @Value("${stock.reservation.committed-ttl:7d}")
+  private Duration committedTtl;
+
+  public StockReservationService(StringRedisTemplate redisTemplate,
+      StockRepository stockRepository, PlatformTransactionManager transactionManager) {
+    this.redisTemplate = redisTemplate;
+    this.stockRepository = stockRepository;
+    this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+    this.requiresNewTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  public void reserve(String reservationId, Long productId, int quantity) {
+    reserveAll(reservationId, Map.of(productId, quantity));
+  }
+
+  /**
+   * 여러 상품 재고를 한 번에 예약 (Redis 왕복 1회, 카운터가 없으면 IN 쿼리 1회로 채운 뒤 1회 더)
+   * <p>
+   * 트랜잭션 안에서 호출하면 롤백 시 예약을 자동으로 해제한다.
+   *
+   * @param quantities productId -> 수량
+   */
+  public void reserveAll(String reservationId, Map<Long, Integer> quantities) {
+    if (quantities.isEmpty() || quantities.values().stream().anyMatch(q -> q == null || q <= 0)) {
+      throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
+    }
+    List<Long> productIds = List.copyOf(quantities.keySet());
+    List<String> keys = new ArrayList<>(productIds.size() + 3);
+    keys.add(reservationKey(reservationId));
+    keys.add(EXPIRING_KEY);
+    keys.add(DIRTY_KEY);
+    List<String> args = new ArrayList<>(productIds.size() * 2 + 2);
+    args.add(reservationId);
+    args.add(String.valueOf(System.currentTimeMillis() + reservationTtl.toMillis()));
+    for (Long productId : productIds) {
+      keys.add(availableKey(productId));
+      args.add(String.valueOf(productId));
+      args.add(String.valueOf(quantities.get(productId)));
+    }
+
+    List<?> result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+    if (result != null && status(result) == NOT_LOADED) {
+      load(result.subList(1, result.size()).stream()
+          .map(id -> Long.valueOf(id.toString()))
+          .toList());
+      result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+    }
+
+    long status = status(result);
+    if (status == INSUFFICIENT) {
+      throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+    }
+    if (status != RESERVED) {
+      log.warn("Stock reservation {} failed with status {}", reservationId, status);
+      throw new CustomException(ErrorCode.STOCK_CHANGE_CONFLICT);
+    }
+    releaseOnRollback(reservationId);
+  }
+
+  /**
+   * 예약 확정 (결제 완료)
+   *
+   * @return 예약이 이미 만료 / 해제되어 확정하지 못했으면 false
+   */
+  public boolean commit(String reservationId) {
+    Long committed = redisTemplate.execute(COMMIT_SCRIPT,
+        List.of(reservationKey(reservationId), EXPIRING_KEY, committedKey(reservationId)),
+        reservationId, String.valueOf(committedTtl.toMillis()));
+    return committed != null && committed > 0;
+  }
+
+  // 예약 해제 (결제 실패 / 주문 취소 / 거절 / 만료), 이미 해제된 예약이면 아무 일도 하지 않음
+  public void release(String reservationId) {
+    List<?> missing = redisTemplate.execute(RELEASE_SCRIPT,
+        List.of(reservationKey(reservationId), EXPIRING_KEY, DIRTY_KEY,
+            committedKey(reservationId)),
+        reservationId, AVAILABLE_KEY_PREFIX);
+    if (missing == null || missing.isEmpty()) {
+      return;
+    }
+    requiresNewTemplate.executeWithoutResult(status -> {
+      for (int i = 0; i + 1 < missing.size(); i += 2) {
+        stockRepository.increaseQuantityByProductId(
+            Long.valueOf(missing.get(i).toString()),
+            Integer.parseInt(missing.get(i + 1).toString()));
+      }
+    });
+  }
+
+  /**
+   * 예약 없이 재고 증감
+   *
+   * @return 변경 후 수량
+   */
+  public long adjust(Long productId, int change) {
+    Supplier<Long> call = () -> redisTemplate.execute(ADJUST_SCRIPT,
+        List.of(availableKey(productId), DIRTY_KEY),
+        String.valueOf(productId), String.valueOf(change));
+    Long result = call.get();
+    if (result != null && result == NOT_LOADED) {
+      load(List.of(productId));
+      result = call.get();
+    }
+    if (result == null || result == NOT_LOADED) {
+      log.warn("Stock counter for product {} could not be loaded", productId);
+      throw new CustomException(ErrorCode.STOCK_CHANGE_CONFLICT);
+    }
+    if (result == INSUFFICIENT) {
+      throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+    }
+    if (result == OVERFLOW) {
+      throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
+    }
+    return result;
+  }
+
+  // 관리자 재고 설정 후 Redis 카운터도 덮어씀 (진행 중인 예약은 이후 해제 시 더해짐)
+  public void overwrite(Long productId, int quantity) {
+    redisTemplate.opsForValue().set(availableKey(productId), String.valueOf(quantity));
+    redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(productId));
+  }
+
+  // Redis 에 올라와 있는 판매 가능 수량, 아직 로드되지 않았으면 null
+  public Integer getAvailable(Long productId) {
+    String cached = redisTemplate.opsForValue().get(availableKey(productId));
+    return cached != null ? Integer.valueOf(cached) : null;
+  }
+
+  public List<String> findExpiredReservationIds(int limit) {
+    Set<String> expired = redisTemplate.opsForZSet()
+        .rangeByScore(EXPIRING_KEY, 0, System.currentTimeMillis(), 0, limit);
+    return expired != null ? List.copyOf(expired) : List.of();
+  }
+
+  // write-back 대상 상품 ID 를 최대 batchSize 개 꺼냄
+  public List<Long> popDirtyProductIds(int batchSize) {
+    List<String> popped = redisTemplate.opsForSet().pop(DIRTY_KEY, batchSize);
+    if (popped == null) {
+      return List.of();
+    }
+    return popped.stream().map(Long::valueOf).toList();
+  }
+
+  // write-back 실패 시 다음 주기에 다시 처리하도록 되돌림
+  public void markDirty(List<Long> productIds) {
+    if (!productIds.isEmpty()) {
+      redisTemplate.opsForSet().add(DIRTY_KEY,
+          productIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+  }
+
+  // 상품별 현재 수량 (MGET 1회), 카운터가 없는 상품은 제외
+  public Map<Long, Integer> getAvailableQuantities(List<Long> productIds) {
+    List<String> values = redisTemplate.opsForValue()
+        .multiGet(productIds.stream().map(StockReservationService::availableKey).toList());
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    for (int i = 0; i < productIds.size(); i++) {
+      String value = values != null ? values.get(i) : null;
+      if (value != null) {
+        quantities.put(productIds.get(i), Integer.valueOf(value));
+      }
+    }
+    return quantities;
+  }
+
+  // 카운터가 없는 상품들을 DB 값으로 채움 (IN 쿼리 1회 + SET NX 파이프라인)
+  private void load(List<Long> productIds) {
+    List<StockQuantityProjection> stocks = stockRepository.findQuantitiesByProductIdIn(productIds);
+    if (stocks.size() != productIds.size()) {
+      throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+    }
+    // 그 사이 다른 요청이 채웠으면 덮어쓰지 않음
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      stocks.forEach(stock -> connection.stringCommands().setNX(
+          availableKey(stock.productId()).getBytes(StandardCharsets.UTF_8),
+          String.valueOf(stock.quantity()).getBytes(StandardCharsets.UTF_8)));
+      return null;
+    });
+  }
+
+  // 예약 후 주문 저장이 롤백되면 예약도 되돌림
+  private void releaseOnRollback(String reservationId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          release(reservationId);
+        }
+      }
+    });
+  }
+
+  private static long status(List<?> result) {
+    return result == null || result.isEmpty() ? NOT_LOADED
+        : Long.parseLong(result.get(0).toString());
+  }
+
+  private static String availableKey(Long productId) {
+    return AVAILABLE_KEY_PREFIX + productId;
+  }
+
+  private static String reservationKey(String reservationId) {
+    return RESERVATION_KEY_PREFIX + reservationId;
+  }
+
+  private static String committedKey(String reservationId) {
+    return COMMITTED_KEY_PREFIX + reservationId;
+  }
+}
@@ -7,6 +7,7 @@ import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class StockService {
 
   private final StockTransactionalService stockTransactionalService;
+  private final StockReservationService stockReservationService;
   private final StockRepository stockRepository;
 
   private static final int MAX_RETRIES = 3;
@@ -24,21 +26,15 @@ public class StockService {
     Stock stock = stockRepository.findByProductId(productId)
         .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
     stock.getProduct().validateStore(storeId);
-    return StockResponse.from(stock);
+    // DB 는 write-back 주기만큼 늦으므로 Redis 에 올라와 있으면 그 값을 사용
+    Integer available = stockReservationService.getAvailable(productId);
+    return available != null ? new StockResponse(productId, available) : StockResponse.from(stock);
   }
 
-  // 주문용: 증감
+  // 주문용: 증감 (Redis 에서 원자적으로 처리, DB 는 비동기 write-back)
   public StockResponse changeStockByOrder(Long productId, int change) {
-    int retries = 0;
-    while (true) {
-      try {
-        return stockTransactionalService.changeStockTransactional(productId, change);
-      } catch (OptimisticLockException e) {
-        if (++retries >= MAX_RETRIES) {
-          throw new CustomException(ErrorCode.STOCK_CHANGE_CONFLICT);
-        }
-      }
-    }
+    long quantity = stockReservationService.adjust(productId, change);
+    return new StockResponse(productId, (int) quantity);
   }
 
   // 관리자용: 직접 세팅
@@ -46,8 +42,12 @@ public class StockService {
     int retries = 0;
     while (true) {
       try {
-        return stockTransactionalService.setStockTransactional(storeId, productId, newQuantity);
-      } catch (OptimisticLockException e) {
+        StockResponse response =
+            stockTransactionalService.setStockTransactional(storeId, productId, newQuantity);
+        stockReservationService.overwrite(productId, newQuantity);
+        return response;
+      } catch (OptimisticLockException | OptimisticLockingFailureException e) {
+        // 커밋 시점 충돌은 Spring 예외로 변환되어 전달됨 (write-back 도 버전을 올림)
         if (++retries >= MAX_RETRIES) {
           throw new CustomException(ErrorCode.STOCK_CHANGE_CONFLICT);
         }
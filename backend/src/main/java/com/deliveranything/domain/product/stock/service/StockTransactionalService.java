@@ -13,17 +13,6 @@ public class StockTransactionalService {
 
   private final StockRepository stockRepository;
 
-  // 주문용: 재고 증감
-  @Transactional
-  public StockResponse changeStockTransactional(Long productId, int change) {
-    Stock stock = stockRepository.getByProductId(productId);
-
-    if (change > 0) stock.increaseQuantity(change);
-    else stock.decreaseQuantity(-change);
-
-    return StockResponse.from(stock);
-  }
-
   // 관리자용: 재고 직접 세팅
   @Transactional
   public StockResponse setStockTransactional(Long storeId, Long productId, int newQuantity) {
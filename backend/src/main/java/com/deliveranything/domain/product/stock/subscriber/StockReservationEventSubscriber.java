@@ -0,0 +1,48 @@
+package com.deliveranything.domain.product.stock.subscriber;
+
+import com.deliveranything.domain.order.event.OrderCancelEvent;
+import com.deliveranything.domain.order.event.OrderRejectedEvent;
+import com.deliveranything.domain.order.service.OrderService;
+import com.deliveranything.domain.payment.event.PaymentFailedEvent;
+import com.deliveranything.domain.payment.event.PaymentSuccessEvent;
+import com.deliveranything.domain.product.stock.service.StockReservationService;
+import com.deliveranything.global.event.EventTransport;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 주문 재고 예약 확정 / 해제 (예약 ID = 주문 merchantUid)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationEventSubscriber {
+
+  private static final String GROUP = "stock";
+
+  private final EventTransport eventTransport;
+  private final StockReservationService stockReservationService;
+  private final OrderService orderService;
+
+  @PostConstruct
+  public void registerListener() {
+    eventTransport.subscribe("payment-completed-event", GROUP,
+        PaymentSuccessEvent.class, this::handlePaymentSuccess);
+    eventTransport.subscribe("payment-failed-event", GROUP,
+        PaymentFailedEvent.class, event -> stockReservationService.release(event.merchantUid()));
+    eventTransport.subscribe("order-cancel-event", GROUP,
+        OrderCancelEvent.class, event -> stockReservationService.release(event.merchantUid()));
+    eventTransport.subscribe("order-rejected-event", GROUP,
+        OrderRejectedEvent.class, event -> stockReservationService.release(event.merchantUid()));
+  }
+
+  private void handlePaymentSuccess(PaymentSuccessEvent event) {
+    if (!stockReservationService.commit(event.merchantUid())) {
+      // 결제 전에 예약이 만료되어 재고가 이미 반환됨 (stock.reservation.ttl 을 결제 가능 시간보다 길게 유지해야 함)
+      // 다시 예약하고, 재고가 없으면 주문 거절 + 결제 취소
+      log.warn("Stock reservation for order {} expired before payment completed",
+          event.merchantUid());
+      orderService.processStockReservationExpired(event.merchantUid());
+    }
+  }
+}
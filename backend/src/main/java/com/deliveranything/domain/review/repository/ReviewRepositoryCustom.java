@@ -4,7 +4,9 @@ import com.deliveranything.domain.review.entity.Review;
 import com.deliveranything.domain.review.enums.MyReviewSortType;
 import com.deliveranything.domain.review.enums.StoreReviewSortType;
 import com.deliveranything.domain.user.profile.enums.ProfileType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ReviewRepositoryCustom {
 
@@ -17,4 +19,7 @@ public interface ReviewRepositoryCustom {
       int size);
 
   Double findAvgRatingByStoreId(Long storeId);
+
+  // 매장 ID -> 평균 평점 (리뷰가 없는 매장은 제외), 검색 색인용
+  Map<Long, Double> findAvgRatingsByStoreIdIn(Collection<Long> storeIds);
 }
@@ -7,11 +7,15 @@ import com.deliveranything.domain.review.enums.ReviewTargetType;
 import com.deliveranything.domain.review.enums.StoreReviewSortType;
 import com.deliveranything.domain.store.store.entity.QStore;
 import com.deliveranything.domain.user.profile.enums.ProfileType;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -187,4 +191,22 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
         .where(store.id.eq(storeId), review.targetType.eq(ReviewTargetType.STORE))
         .fetchOne();
   }
+
+  @Override
+  public Map<Long, Double> findAvgRatingsByStoreIdIn(Collection<Long> storeIds) {
+    QReview review = QReview.review;
+    QStore store = QStore.store;
+
+    List<Tuple> rows = queryFactory
+        .select(store.id, review.rating.avg())
+        .from(review)
+        .join(store).on(review.targetId.eq(store.sellerProfileId)) // 리뷰 targetId = 상점 소유자 프로필 ID
+        .where(store.id.in(storeIds), review.targetType.eq(ReviewTargetType.STORE))
+        .groupBy(store.id)
+        .fetch();
+
+    return rows.stream().collect(Collectors.toMap(
+        row -> row.get(store.id),
+        row -> row.get(review.rating.avg())));
+  }
 }
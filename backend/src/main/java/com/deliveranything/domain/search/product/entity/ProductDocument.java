@@ -1,25 +1,69 @@
-//package com.deliveranything.domain.search.product.entity;
-//
-//import java.util.List;
-//import org.springframework.data.annotation.Id;
-//import org.springframework.data.elasticsearch.annotations.Field;
-//import org.springframework.data.elasticsearch.annotations.FieldType;
-//
-//public class ProductDocument {
-//
-//  @Id
-//  private Long id;
-//
-//  @Field(type = FieldType.Text, name = "name")
-//  private String name;
-//
-//  @Field(type = FieldType.Text, name = "description")
-//  private String description;
-//
-//  @Field(type = FieldType.Integer, name = "price")
-//  private int price;
-//
-//  @Field(type = FieldType.Keyword, name = "keywords")
-//  private List<String> keywords;
-//
-//}
\ No newline at end of file
+package com.deliveranything.domain.search.product.entity;
+
+import com.deliveranything.domain.product.product.entity.Product;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
+
+@Getter
+@Builder
+// 인덱스 생성 / 초기 색인은 ProductIndexService 가 담당
+@Document(indexName = ProductDocument.INDEX_NAME, createIndex = false)
+// korean 분석기 (nori 플러그인 필요)
+@Setting(settingPath = "elasticsearch/korean-settings.json")
+public class ProductDocument {
+
+  public static final String INDEX_NAME = "products";
+
+  // search_after 정렬 tie-breaker
+  @Id
+  @Field(type = FieldType.Long, name = "id")
+  private Long id;
+
+  @Field(type = FieldType.Long, name = "store_id")
+  private Long storeId;
+
+  @MultiField(
+      mainField = @Field(type = FieldType.Text, name = "name", analyzer = "korean"),
+      otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+  )
+  private String name;
+
+  @Field(type = FieldType.Text, name = "description", analyzer = "korean")
+  private String description;
+
+  @Field(type = FieldType.Integer, name = "price")
+  private Integer price;
+
+  @Field(type = FieldType.Keyword, name = "image_url", index = false)
+  private String imageUrl;
+
+  // product_keywords (Gemini 생성 키워드)
+  @Builder.Default
+  @MultiField(
+      mainField = @Field(type = FieldType.Text, name = "keywords", analyzer = "korean"),
+      otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+  )
+  private List<String> keywords = new ArrayList<>();
+
+  // keywords 는 호출자가 배치 단위로 조회해 전달 (상품별 지연 로딩 방지)
+  public static ProductDocument from(Product product, List<String> keywords) {
+    return ProductDocument.builder()
+        .id(product.getId())
+        .storeId(product.getStore().getId())
+        .name(product.getName())
+        .description(product.getDescription())
+        .price(product.getPrice())
+        .imageUrl(product.getImageUrl())
+        .keywords(new ArrayList<>(keywords))
+        .build();
+  }
+}
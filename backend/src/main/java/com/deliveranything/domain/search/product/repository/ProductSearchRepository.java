@@ -0,0 +1,8 @@
+package com.deliveranything.domain.search.product.repository;
+
+import com.deliveranything.domain.search.product.entity.ProductDocument;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+
+public interface ProductSearchRepository extends ElasticsearchRepository<ProductDocument, Long>, ProductSearchRepositoryCustom {
+
+}
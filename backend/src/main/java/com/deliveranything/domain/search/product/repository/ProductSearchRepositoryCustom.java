@@ -0,0 +1,11 @@
+package com.deliveranything.domain.search.product.repository;
+
+import com.deliveranything.domain.product.product.dto.ProductSearchRequest;
+import com.deliveranything.domain.search.product.entity.ProductDocument;
+import com.deliveranything.global.common.CursorPageResponse;
+
+public interface ProductSearchRepositoryCustom {
+
+  // 매장 상품 검색 (검색어가 있으면 관련도순, 없으면 최신순), search_after 커서
+  CursorPageResponse<ProductDocument> search(Long storeId, ProductSearchRequest request);
+}
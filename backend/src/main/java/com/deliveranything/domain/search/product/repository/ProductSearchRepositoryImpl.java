@@ -0,0 +1,100 @@
+package com.deliveranything.domain.search.product.repository;
+
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.deliveranything.domain.product.product.dto.ProductSearchRequest;
+import com.deliveranything.domain.search.product.entity.ProductDocument;
+import com.deliveranything.global.common.CursorPageResponse;
+import com.deliveranything.global.util.CursorUtil;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductSearchRepositoryImpl implements ProductSearchRepositoryCustom {
+
+  private final ElasticsearchOperations elasticsearchOperations;
+
+  // 검색에 사용할 필드명은 상수로 관리
+  private static final String FIELD_NAME = "name";
+  private static final String FIELD_DESCRIPTION = "description";
+  private static final String FIELD_KEYWORDS = "keywords";
+  private static final String FIELD_STORE_ID = "store_id";
+  private static final String FIELD_ID = "id";
+  private static final String SORT_SCORE = "_score";
+
+  @Override
+  public CursorPageResponse<ProductDocument> search(Long storeId, ProductSearchRequest request) {
+    int querySize = request.limit() + 1;
+    boolean hasSearchText = StringUtils.hasText(request.searchText());
+
+    BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
+
+    if (hasSearchText) {
+      // 상품명 > 생성 키워드 > 설명 순으로 가중치
+      boolQueryBuilder.must(m -> m
+          .multiMatch(mm -> mm
+              .query(request.searchText())
+              .fields(FIELD_NAME + "^3", FIELD_KEYWORDS + "^2", FIELD_DESCRIPTION)
+          ));
+    }
+
+    boolQueryBuilder.filter(f -> f
+        .term(t -> t
+            .field(FIELD_STORE_ID)
+            .value(storeId)
+        ));
+
+    // 검색어가 없으면 SQL 조회와 같은 최신순(id 내림차순)
+    List<SortOptions> sorts = new ArrayList<>();
+    if (hasSearchText) {
+      sorts.add(SortOptions.of(s -> s.field(f -> f.field(SORT_SCORE).order(SortOrder.Desc))));
+    }
+    sorts.add(SortOptions.of(s -> s.field(f -> f.field(FIELD_ID).order(SortOrder.Desc))));
+
+    NativeQueryBuilder queryBuilder = new NativeQueryBuilder()
+        .withQuery(Query.of(q -> q.bool(boolQueryBuilder.build())))
+        .withPageable(PageRequest.of(0, querySize))
+        .withSort(sorts);
+
+    if (StringUtils.hasText(request.nextPageToken())) {
+      String[] decodedCursor = CursorUtil.decode(request.nextPageToken());
+      // 다른 정렬(또는 SQL 조회)로 만든 토큰이면 첫 페이지를 반환
+      if (decodedCursor != null && decodedCursor.length == sorts.size()) {
+        queryBuilder.withSearchAfter(List.of((Object[]) decodedCursor));
+      } else {
+        log.debug("Invalid product next page token: {}", request.nextPageToken());
+      }
+    }
+
+    SearchHits<ProductDocument> searchHits =
+        elasticsearchOperations.search(queryBuilder.build(), ProductDocument.class);
+
+    List<ProductDocument> results = searchHits.getSearchHits().stream()
+        .map(SearchHit::getContent)
+        .toList();
+
+    boolean hasNext = results.size() > request.limit();
+    List<ProductDocument> responseResults = hasNext ? results.subList(0, request.limit()) : results;
+
+    String nextToken = null;
+    if (hasNext) {
+      SearchHit<ProductDocument> lastHit = searchHits.getSearchHits().get(responseResults.size() - 1);
+      nextToken = CursorUtil.encode(lastHit.getSortValues().toArray());
+    }
+
+    return new CursorPageResponse<>(responseResults, nextToken, hasNext);
+  }
+}
@@ -0,0 +1,107 @@
+package com.deliveranything.domain.search.product.service;
+
+import com.deliveranything.domain.search.product.entity.ProductDocument;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 검색 인덱스(products) 준비
+ * <p>
+ * 인덱스가 없으면 매핑과 함께 만들고, MySQL 상품을 id keyset 배치로 한 번 전체 색인한다 (노드 전체에서 하나만 실행). 그 뒤 변경은
+ * 상품 이벤트로 반영한다. 전체 색인이 끝나기 전에는 ProductService 가 SQL 로 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductIndexService {
+
+  private static final String READY_KEY = "search:products:ready";
+  private static final String BACKFILL_LOCK_KEY = "search:products:backfill:lock";
+
+  // 본인이 잡은 락만 해제
+  private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final ProductSyncService productSyncService;
+  private final StringRedisTemplate redisTemplate;
+
+  @Value("${search.product.backfill-batch-size:500}")
+  private int batchSize;
+
+  @Value("${search.product.backfill-lock-ttl:30m}")
+  private Duration lockTtl;
+
+  @Value("${search.product.ready-check-interval:5s}")
+  private Duration readyCheckInterval;
+
+  // Redis 준비 플래그 확인 결과를 잠시 보관 (플래그가 지워지면 다음 확인부터 다시 SQL 로 조회)
+  private volatile boolean ready;
+  private volatile long readyCheckedAt;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void ensureIndex() {
+    try {
+      IndexOperations indexOps = elasticsearchOperations.indexOps(ProductDocument.class);
+      if (!indexOps.exists()) {
+        indexOps.createWithMapping();
+        redisTemplate.delete(READY_KEY);
+        readyCheckedAt = 0;
+        log.info("Product search index {} created.", ProductDocument.INDEX_NAME);
+      }
+      if (!isReady()) {
+        Thread.ofVirtual().name("product-index-backfill").start(this::backfill);
+      }
+    } catch (Exception e) {
+      log.error("Failed to prepare product search index", e);
+    }
+  }
+
+  // 전체 색인이 끝나 ES 검색 결과를 신뢰할 수 있는지
+  public boolean isReady() {
+    long now = System.currentTimeMillis();
+    if (now - readyCheckedAt >= readyCheckInterval.toMillis()) {
+      ready = Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+      readyCheckedAt = now;
+    }
+    return ready;
+  }
+
+  private void backfill() {
+    String lockValue = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+        .setIfAbsent(BACKFILL_LOCK_KEY, lockValue, lockTtl))) {
+      log.info("Product search index backfill skipped: already running on another node.");
+      return;
+    }
+    try {
+      int batches = 0;
+      Long lastId = 0L;
+      while ((lastId = productSyncService.indexBatchAfter(lastId, batchSize)) != null) {
+        batches++;
+      }
+      elasticsearchOperations.indexOps(ProductDocument.class).refresh();
+      redisTemplate.opsForValue().set(READY_KEY, "1");
+      log.info("Product search index backfilled in {} batches.", batches);
+    } catch (Exception e) {
+      log.error("Product search index backfill failed", e);
+    } finally {
+      redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(BACKFILL_LOCK_KEY), lockValue);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.deliveranything.domain.search.product.service;
+
+import com.deliveranything.domain.product.product.dto.projection.ProductKeywordProjection;
+import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.product.product.repository.ProductRepository;
+import com.deliveranything.domain.search.product.entity.ProductDocument;
+import com.deliveranything.domain.search.product.repository.ProductSearchRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSyncService {
+
+  private final ProductRepository productRepository;
+  private final ProductSearchRepository productSearchRepository;
+
+  // 상품 생성 / 수정 / 키워드 변경 시 DB 의 현재 상태로 다시 색인 (bulk 1회)
+  // 그 사이 삭제된 상품은 색인에서도 지움 (삭제 이벤트보다 늦게 처리된 경우 대비)
+  @Transactional(readOnly = true)
+  public void handleSaved(Collection<Long> productIds) {
+    List<Product> products = productRepository.findAllById(productIds);
+    if (!products.isEmpty()) {
+      productSearchRepository.saveAll(toDocuments(products));
+    }
+
+    Set<Long> missingIds = new HashSet<>(productIds);
+    products.forEach(product -> missingIds.remove(product.getId()));
+    if (!missingIds.isEmpty()) {
+      productSearchRepository.deleteAllById(missingIds);
+    }
+    log.debug("Products {} synchronized to ES.", productIds);
+  }
+
+  public void handleDeleted(Long productId) {
+    productSearchRepository.deleteById(productId);
+    log.debug("Product (ID: {}) deleted from ES.", productId);
+  }
+
+  /**
+   * 초기 색인용 id keyset 배치
+   *
+   * @return 마지막으로 색인한 상품 id, 더 없으면 null
+   */
+  @Transactional(readOnly = true)
+  public Long indexBatchAfter(long lastId, int batchSize) {
+    List<Product> products = productRepository.findBatchAfter(lastId, PageRequest.of(0, batchSize));
+    if (products.isEmpty()) {
+      return null;
+    }
+    productSearchRepository.saveAll(toDocuments(products));
+    return products.getLast().getId();
+  }
+
+  // 상품 목록을 검색 문서로 변환 (키워드는 조회 1회)
+  private List<ProductDocument> toDocuments(List<Product> products) {
+    Map<Long, List<String>> keywordsByProductId = new HashMap<>();
+    for (ProductKeywordProjection row : productRepository.findKeywordsByProductIdIn(
+        products.stream().map(Product::getId).toList())) {
+      keywordsByProductId.computeIfAbsent(row.productId(), id -> new ArrayList<>())
+          .add(row.keyword());
+    }
+    return products.stream()
+        .map(product -> ProductDocument.from(product,
+            keywordsByProductId.getOrDefault(product.getId(), List.of())))
+        .toList();
+  }
+}
@@ -0,0 +1,53 @@
+package com.deliveranything.domain.search.product.subscriber;
+
+import com.deliveranything.domain.product.product.event.ProductDeletedEvent;
+import com.deliveranything.domain.product.product.event.ProductEventType;
+import com.deliveranything.domain.product.product.event.ProductKeywordsChangedEvent;
+import com.deliveranything.domain.product.product.event.ProductSavedEvent;
+import com.deliveranything.domain.search.product.service.ProductSyncService;
+import com.deliveranything.global.event.EventTransport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 매장 색인(search 그룹)과 별도 그룹으로 구독해 같은 키워드 이벤트를 양쪽 모두 받음
+@Component
+@RequiredArgsConstructor
+public class ProductIndexEventSubscriber {
+
+  private static final String GROUP = "product-search";
+
+  private final EventTransport eventTransport;
+  private final ObjectMapper objectMapper;
+  private final ProductSyncService productSyncService;
+
+  @PostConstruct
+  public void registerListener() {
+    eventTransport.subscribe("product-events", GROUP, JsonNode.class, this::handle);
+    eventTransport.subscribe("product-keywords-events", GROUP,
+        ProductKeywordsChangedEvent.class, this::handleKeywordsChanged);
+  }
+
+  private void handle(JsonNode node) throws JsonProcessingException {
+    ProductEventType type = ProductEventType.valueOf(node.get("type").asText());
+
+    switch (type) {
+      case SAVED -> {
+        ProductSavedEvent event = objectMapper.treeToValue(node, ProductSavedEvent.class);
+        productSyncService.handleSaved(List.of(event.productId()));
+      }
+      case DELETED -> {
+        ProductDeletedEvent event = objectMapper.treeToValue(node, ProductDeletedEvent.class);
+        productSyncService.handleDeleted(event.productId());
+      }
+    }
+  }
+
+  private void handleKeywordsChanged(ProductKeywordsChangedEvent event) {
+    productSyncService.handleSaved(event.productIds());
+  }
+}
@@ -11,20 +11,34 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.GeoPointField;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 
 @Getter
 @Builder
-@Document(indexName = "stores")
+// stores 는 버전 인덱스(stores_v...)를 가리키는 alias, 인덱스 생성 / 교체는 StoreIndexService 가 담당
+@Document(indexName = StoreDocument.INDEX_ALIAS, createIndex = false)
+// korean 분석기 (nori 플러그인 필요)
+@Setting(settingPath = "elasticsearch/korean-settings.json")
 public class StoreDocument {
 
+  public static final String INDEX_ALIAS = "stores";
+
+  // search_after 정렬 tie-breaker (_id 는 ES 8 부터 정렬에 쓸 수 없음)
   @Id
+  @Field(type = FieldType.Long, name = "id")
   private Long id;
 
-  @Field(type = FieldType.Text, name = "name")
+  @MultiField(
+      mainField = @Field(type = FieldType.Text, name = "name", analyzer = "korean"),
+      otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+  )
   private String name;
 
-  @Field(type = FieldType.Text, name = "description")
+  @Field(type = FieldType.Text, name = "description", analyzer = "korean")
   private String description;
 
   // 검색 필터링을 위한 카테고리 ID
@@ -34,13 +48,13 @@ public class StoreDocument {
   @Field(type = FieldType.Keyword, name = "store_category")
   private String categoryName;
 
-  @Field(type = FieldType.Text, name = "image_url")
+  @Field(type = FieldType.Keyword, name = "image_url", index = false)
   private String imageUrl;
 
   @Field(type = FieldType.Text, name = "road_address")
   private String roadAddress;
 
-  @Field(type = FieldType.Object, name = "location")
+  @GeoPointField
   private GeoPoint location;
 
   @Field(type = FieldType.Keyword, name = "status")
@@ -48,9 +62,18 @@ public class StoreDocument {
 
   @Setter
   @Builder.Default
-  @Field(type = FieldType.Text, name = "keywords")
+  @MultiField(
+      mainField = @Field(type = FieldType.Text, name = "keywords", analyzer = "korean"),
+      otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+  )
   private List<String> keywords = new ArrayList<>();
 
+  // 매장 리뷰 평균 평점 (리뷰가 없으면 0)
+  @Setter
+  @Builder.Default
+  @Field(type = FieldType.Double, name = "rating")
+  private Double rating = 0.0;
+
   public static StoreDocument from(Store store) {
     return StoreDocument.builder()
         .id(store.getId())
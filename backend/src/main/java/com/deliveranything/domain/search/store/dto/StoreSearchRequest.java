@@ -1,5 +1,6 @@
 package com.deliveranything.domain.search.store.dto;
 
+import com.deliveranything.domain.search.store.enums.StoreSearchSortType;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -18,17 +19,33 @@ public record StoreSearchRequest(
     String searchText,
 
     @Min(value = 0, message = "거리는 0km 이상이어야 합니다.")
-    @Max(value = 10, message = "거리는 10km를 초과할 수 없습니다.")
+    @Max(value = StoreSearchRequest.MAX_DISTANCE_KM, message = "거리는 10km를 초과할 수 없습니다.")
     Double distanceKm,
 
     @Min(value = 1, message = "limit 값은 1 이상이어야 합니다.")
     @Max(value = 50, message = "limit 값은 50을 초과할 수 없습니다.")
     Integer limit,
 
-    String nextPageToken
+    String nextPageToken,
+
+    // 기본값: 검색어가 있으면 RELEVANCE, 없으면 DISTANCE
+    StoreSearchSortType sort
 ) {
+
+  public static final long MAX_DISTANCE_KM = 10;
+
   public StoreSearchRequest {
     if (distanceKm == null) { distanceKm = 7.0; }
     if (limit == null) { limit = 20; }
+    if (sort == null) {
+      sort = searchText != null && !searchText.isBlank()
+          ? StoreSearchSortType.RELEVANCE : StoreSearchSortType.DISTANCE;
+    }
+  }
+
+  // 같은 조건으로 검색 기준 좌표 / 반경만 바꾼 요청 (셀 중심 좌표로 검색할 때 사용)
+  public StoreSearchRequest withArea(double lat, double lng, double distanceKm) {
+    return new StoreSearchRequest(lat, lng, categoryId, searchText, distanceKm, limit,
+        nextPageToken, sort);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.deliveranything.domain.search.store.dto;
+
+import com.deliveranything.domain.search.store.document.StoreDocument;
+
+// 검색 문서 + ES 가 _geo_distance 정렬로 계산한 거리 (km)
+public record StoreSearchResult(
+    StoreDocument document,
+    double distanceKm
+) {
+
+}
@@ -0,0 +1,39 @@
+package com.deliveranything.domain.search.store.endpoint;
+
+import com.deliveranything.domain.search.store.service.StoreIndexService;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장 검색 인덱스 상태 조회 / 전체 재구축 (운영용)
+ * <p>
+ * 기본으로 노출되지 않으며, 내부망에서 management.endpoints.web.exposure.include 에 storeindex 를 추가해 사용한다.
+ * <p>
+ * - GET /actuator/storeindex: alias 가 가리키는 인덱스, 재구축 중인 인덱스
+ * <p>
+ * - POST /actuator/storeindex: 재구축 시작 (백그라운드, 이미 진행 중이면 시작하지 않음)
+ */
+@Component
+@Endpoint(id = "storeindex")
+@RequiredArgsConstructor
+public class StoreIndexEndpoint {
+
+  private final StoreIndexService storeIndexService;
+
+  @ReadOperation
+  public Map<String, Object> status() {
+    return Map.of(
+        "aliasedIndices", storeIndexService.getAliasedIndices(),
+        "buildingIndex", Objects.toString(storeIndexService.getBuildingIndex(), ""));
+  }
+
+  @WriteOperation
+  public Map<String, Object> rebuild() {
+    return Map.of("started", storeIndexService.rebuildInBackground());
+  }
+}
@@ -0,0 +1,7 @@
+package com.deliveranything.domain.search.store.enums;
+
+public enum StoreSearchSortType {
+  DISTANCE,   // 가까운 순
+  RELEVANCE,  // 검색어 관련도 순 (같으면 가까운 순)
+  RATING      // 평점 높은 순 (같으면 가까운 순)
+}
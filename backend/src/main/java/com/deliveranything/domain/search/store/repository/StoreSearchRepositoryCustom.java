@@ -1,9 +1,18 @@
 package com.deliveranything.domain.search.store.repository;
 
-import com.deliveranything.domain.search.store.document.StoreDocument;
 import com.deliveranything.domain.search.store.dto.StoreSearchRequest;
+import com.deliveranything.domain.search.store.dto.StoreSearchResult;
+import com.deliveranything.domain.store.store.enums.StoreStatus;
 import com.deliveranything.global.common.CursorPageResponse;
+import java.util.List;
+import java.util.Map;
 
 public interface StoreSearchRepositoryCustom {
-  CursorPageResponse<StoreDocument> search(StoreSearchRequest request);
+  CursorPageResponse<StoreSearchResult> search(StoreSearchRequest request);
+
+  // keywords 필드만 부분 업데이트 (인덱스당 bulk 요청 1회), 색인되지 않은 매장은 건너뜀
+  void updateKeywords(Map<Long, List<String>> keywordsByStoreId);
+
+  // status 필드만 부분 업데이트 (영업 상태 토글), 색인되지 않은 매장은 건너뜀
+  void updateStatus(Long storeId, StoreStatus status);
 }
@@ -1,29 +1,45 @@
 package com.deliveranything.domain.search.store.repository;
 
+import co.elastic.clients.elasticsearch._types.DistanceUnit;
+import co.elastic.clients.elasticsearch._types.GeoLocation;
+import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import com.deliveranything.domain.search.store.document.StoreDocument;
 import com.deliveranything.domain.search.store.dto.StoreSearchRequest;
+import com.deliveranything.domain.search.store.dto.StoreSearchResult;
+import com.deliveranything.domain.search.store.service.StoreIndexService;
+import com.deliveranything.domain.store.store.enums.StoreStatus;
 import com.deliveranything.global.common.CursorPageResponse;
 import com.deliveranything.global.util.CursorUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class StoreSearchRepositoryImpl implements StoreSearchRepositoryCustom {
 
   private final ElasticsearchOperations elasticsearchOperations;
+  private final StoreIndexService storeIndexService;
 
   // 검색에 사용할 필드명은 상수로 관리
   private static final String FIELD_NAME = "name";
@@ -31,11 +47,13 @@ public class StoreSearchRepositoryImpl implements StoreSearchRepositoryCustom {
   private static final String FIELD_KEYWORDS = "keywords";
   private static final String FIELD_CATEGORY_ID = "category_id";
   private static final String FIELD_LOCATION = "location";
+  private static final String FIELD_RATING = "rating";
+  private static final String FIELD_STATUS = "status";
+  private static final String FIELD_ID = "id";
   private static final String SORT_SCORE = "_score";
-  private static final String SORT_ID = "_id";
 
   @Override
-  public CursorPageResponse<StoreDocument> search(StoreSearchRequest request) {
+  public CursorPageResponse<StoreSearchResult> search(StoreSearchRequest request) {
     int querySize = request.limit() + 1;
 
     BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
@@ -44,7 +62,7 @@ public class StoreSearchRepositoryImpl implements StoreSearchRepositoryCustom {
       boolQueryBuilder.must(m -> m
           .multiMatch(mm -> mm
               .query(request.searchText())
-              .fields(FIELD_NAME, FIELD_DESCRIPTION, FIELD_KEYWORDS)
+              .fields(FIELD_NAME + "^3", FIELD_KEYWORDS + "^2", FIELD_DESCRIPTION)
           ));
     }
 
@@ -56,47 +74,105 @@ public class StoreSearchRepositoryImpl implements StoreSearchRepositoryCustom {
           ));
     }
 
+    GeoLocation origin = GeoLocation.of(l -> l.latlon(ll -> ll.lat(request.lat()).lon(request.lng())));
     boolQueryBuilder.filter(f -> f
         .geoDistance(g -> g
             .field(FIELD_LOCATION)
-            .location(l -> l.latlon(ll -> ll.lat(request.lat()).lon(request.lng())))
+            .location(origin)
             .distance(request.distanceKm() + "km")
         ));
 
+    // 모든 정렬에 거리 정렬을 포함해 ES 가 계산한 거리를 정렬 값으로 돌려받음, id 는 search_after tie-breaker
+    SortOptions distanceSort = SortOptions.of(s -> s.geoDistance(g -> g
+        .field(FIELD_LOCATION)
+        .location(origin)
+        .unit(DistanceUnit.Kilometers)
+        .order(SortOrder.Asc)));
+    SortOptions idSort = SortOptions.of(s -> s.field(f -> f.field(FIELD_ID).order(SortOrder.Asc)));
+    List<SortOptions> sorts = switch (request.sort()) {
+      case DISTANCE -> List.of(distanceSort, idSort);
+      case RELEVANCE -> List.of(
+          SortOptions.of(s -> s.field(f -> f.field(SORT_SCORE).order(SortOrder.Desc))),
+          distanceSort, idSort);
+      case RATING -> List.of(
+          SortOptions.of(s -> s.field(f -> f.field(FIELD_RATING).order(SortOrder.Desc))),
+          distanceSort, idSort);
+    };
+    int distanceSortIndex = sorts.indexOf(distanceSort);
+
     NativeQueryBuilder queryBuilder = new NativeQueryBuilder()
         .withQuery(Query.of(q -> q.bool(boolQueryBuilder.build())))
         .withPageable(PageRequest.of(0, querySize))
-        .withSort(s -> s.field(f -> f.field(SORT_SCORE).order(SortOrder.Desc)))
-        .withSort(s -> s.field(f -> f.field(SORT_ID).order(SortOrder.Asc)));
+        .withSort(sorts);
 
     if(StringUtils.hasText(request.nextPageToken())) {
-      try {
-        String[] decodedCursor = CursorUtil.decode(request.nextPageToken());
-        if (decodedCursor != null) {
-          queryBuilder.withSearchAfter(List.of(decodedCursor));
-        }
-      } catch (IllegalArgumentException e) {
-        // 유효하지 않은 토큰일 경우 로그를 남기고 첫 페이지를 반환
-        System.err.println("Invalid next page token: " + e.getMessage());
+      String[] decodedCursor = CursorUtil.decode(request.nextPageToken());
+      // 토큰 = [정렬 종류, 정렬 값...], 다른 정렬로 만든 토큰이면 첫 페이지를 반환
+      // (RELEVANCE / RATING 처럼 정렬 값 개수가 같아도 값의 의미가 다름)
+      if (decodedCursor != null && decodedCursor.length == sorts.size() + 1
+          && request.sort().name().equals(decodedCursor[0])) {
+        queryBuilder.withSearchAfter(
+            List.of((Object[]) Arrays.copyOfRange(decodedCursor, 1, decodedCursor.length)));
+      } else {
+        log.debug("Invalid next page token for sort {}", request.sort());
       }
     }
 
     NativeQuery searchQuery = queryBuilder.build();
     SearchHits<StoreDocument> searchHits = elasticsearchOperations.search(searchQuery, StoreDocument.class);
 
-    List<StoreDocument> documents = searchHits.getSearchHits().stream()
-        .map(SearchHit::getContent).collect(Collectors.toList());
+    List<StoreSearchResult> results = searchHits.getSearchHits().stream()
+        .map(hit -> new StoreSearchResult(hit.getContent(),
+            ((Number) hit.getSortValues().get(distanceSortIndex)).doubleValue()))
+        .toList();
 
-    boolean hasNext = documents.size() > request.limit();
-    List<StoreDocument> responseDocuments = hasNext ? documents.subList(0, request.limit()) : documents;
+    boolean hasNext = results.size() > request.limit();
+    List<StoreSearchResult> responseResults = hasNext ? results.subList(0, request.limit()) : results;
 
     String nextToken = null;
     if(hasNext) {
-      SearchHit<StoreDocument> lastHit = searchHits.getSearchHits().get(responseDocuments.size() - 1);
-      // _score, _id 순서에 맞게 정렬 값을 배열로 전달
-      nextToken = CursorUtil.encode(lastHit.getSortValues().toArray());
+      SearchHit<StoreDocument> lastHit = searchHits.getSearchHits().get(responseResults.size() - 1);
+      // 정렬 종류 뒤에 정렬 순서대로 정렬 값을 붙여 전달
+      List<Object> cursorValues = new ArrayList<>();
+      cursorValues.add(request.sort().name());
+      cursorValues.addAll(lastHit.getSortValues());
+      nextToken = CursorUtil.encode(cursorValues.toArray());
+    }
+
+    return new CursorPageResponse<>(responseResults, nextToken, hasNext);
+  }
+
+  @Override
+  public void updateKeywords(Map<Long, List<String>> keywordsByStoreId) {
+    if (keywordsByStoreId.isEmpty()) {
+      return;
     }
+    partialUpdate(keywordsByStoreId.entrySet().stream()
+        .map(entry -> UpdateQuery.builder(String.valueOf(entry.getKey()))
+            .withDocument(Document.create().append(FIELD_KEYWORDS, entry.getValue()))
+            .build())
+        .toList());
+  }
+
+  @Override
+  public void updateStatus(Long storeId, StoreStatus status) {
+    partialUpdate(List.of(UpdateQuery.builder(String.valueOf(storeId))
+        .withDocument(Document.create().append(FIELD_STATUS, status.name()))
+        .build()));
+  }
 
-    return new CursorPageResponse<>(responseDocuments, nextToken, hasNext);
+  private void partialUpdate(List<UpdateQuery> updates) {
+    // 재구축 중이면 새 인덱스에도 반영
+    for (IndexCoordinates index : storeIndexService.writeIndices()) {
+      try {
+        elasticsearchOperations.bulkUpdate(updates, index);
+      } catch (BulkFailureException e) {
+        // 아직 색인되지 않은 매장(404)은 색인할 때 최신 값을 함께 채우므로 무시
+        if (e.getFailedDocuments().values().stream()
+            .anyMatch(failure -> !Objects.equals(failure.status(), 404))) {
+          throw e;
+        }
+      }
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.deliveranything.domain.search.store.scheduler;
+
+import com.deliveranything.domain.search.store.service.StoreKeywordSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreKeywordSyncScheduler {
+
+  private final StoreKeywordSyncService storeKeywordSyncService;
+
+  @Value("${search.keyword-sync.batch-size:100}")
+  private int batchSize;
+
+  // 반영 시각이 지난 매장 키워드를 ES 에 반영 (가득 찬 배치가 나오면 이어서 처리)
+  @Scheduled(fixedDelayString = "${search.keyword-sync.poll-interval:1000}")
+  public void syncKeywords() {
+    try {
+      int synced;
+      do {
+        synced = storeKeywordSyncService.syncDue(batchSize);
+      } while (synced >= batchSize);
+    } catch (Exception e) {
+      log.error("매장 키워드 ES 동기화 실패", e);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package com.deliveranything.domain.search.store.service;
+
+import com.deliveranything.domain.search.store.document.StoreDocument;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장 문서 실시간 변경 버퍼
+ * <p>
+ * 매장별 마지막 변경만 남겨 두었다가 flush-size 개가 모이거나 flush-interval 이 지나면 _bulk 로 쓴다 (전용 스레드). 실패한 문서는 그
+ * 사이 더 새로운 변경이 없으면 버퍼로 되돌려 다음 주기에 다시 쓴다.
+ */
+@Slf4j
+@Component
+public class StoreIndexBulkProcessor {
+
+  // document 가 null 이면 삭제
+  private record PendingWrite(Long storeId, StoreDocument document) {
+
+  }
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final StoreIndexService storeIndexService;
+  private final StoreSearchCache storeSearchCache;
+  private final int flushSize;
+  private final Duration flushInterval;
+  private final Duration cacheInvalidateDelay;
+
+  private final Map<Long, PendingWrite> pending = new LinkedHashMap<>();
+  private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("store-index-bulk").daemon().factory());
+
+  public StoreIndexBulkProcessor(ElasticsearchOperations elasticsearchOperations,
+      StoreIndexService storeIndexService,
+      StoreSearchCache storeSearchCache,
+      @Value("${search.bulk.flush-size:200}") int flushSize,
+      @Value("${search.bulk.flush-interval:1s}") Duration flushInterval,
+      @Value("${search.cache.invalidate-delay:1s}") Duration cacheInvalidateDelay) {
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.storeIndexService = storeIndexService;
+    this.storeSearchCache = storeSearchCache;
+    this.flushSize = flushSize;
+    this.flushInterval = flushInterval;
+    this.cacheInvalidateDelay = cacheInvalidateDelay;
+  }
+
+  @PostConstruct
+  public void start() {
+    flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(),
+        flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    flushExecutor.shutdown();
+    flushExecutor.awaitTermination(flushInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+    flush();
+  }
+
+  public void index(StoreDocument document) {
+    add(new PendingWrite(document.getId(), document));
+  }
+
+  public void delete(Long storeId) {
+    add(new PendingWrite(storeId, null));
+  }
+
+  private void add(PendingWrite write) {
+    boolean full;
+    synchronized (pending) {
+      pending.put(write.storeId(), write);
+      full = pending.size() >= flushSize;
+    }
+    if (full) {
+      flushExecutor.execute(this::flush);
+    }
+  }
+
+  private void flush() {
+    List<PendingWrite> writes;
+    synchronized (pending) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      writes = new ArrayList<>(pending.values());
+      pending.clear();
+    }
+
+    List<IndexQuery> indexQueries = writes.stream()
+        .filter(write -> write.document() != null)
+        .map(write -> new IndexQueryBuilder()
+            .withId(String.valueOf(write.storeId()))
+            .withObject(write.document())
+            .build())
+        .toList();
+    List<String> deletedIds = writes.stream()
+        .filter(write -> write.document() == null)
+        .map(write -> String.valueOf(write.storeId()))
+        .toList();
+
+    try {
+      for (IndexCoordinates index : storeIndexService.writeIndices()) {
+        if (!indexQueries.isEmpty()) {
+          elasticsearchOperations.bulkIndex(indexQueries, index);
+        }
+        if (!deletedIds.isEmpty()) {
+          elasticsearchOperations.delete(DeleteQuery.builder(NativeQuery.builder()
+                  .withQuery(q -> q.ids(ids -> ids.values(deletedIds)))
+                  .build())
+              .build(), StoreDocument.class, index);
+        }
+      }
+      log.debug("Flushed {} store index writes.", writes.size());
+    } catch (BulkFailureException e) {
+      Set<String> failedIds = e.getFailedDocuments().keySet();
+      log.warn("Store index bulk write failed for {} documents", failedIds.size());
+      requeue(writes.stream()
+          .filter(write -> failedIds.contains(String.valueOf(write.storeId())))
+          .toList());
+    } catch (Exception e) {
+      log.warn("Store index bulk write failed: {}", e.getMessage());
+      requeue(writes);
+    }
+    scheduleCacheInvalidation(writes);
+  }
+
+  // 검색 결과 캐시 무효화는 ES refresh 이후로 미룸 (그 전에 다시 채워진 항목이 옛 문서를 담지 않도록)
+  private void scheduleCacheInvalidation(List<PendingWrite> writes) {
+    List<StoreDocument> indexed = writes.stream()
+        .map(PendingWrite::document)
+        .filter(Objects::nonNull)
+        .toList();
+    List<Long> storeIds = writes.stream().map(PendingWrite::storeId).toList();
+    if (flushExecutor.isShutdown()) {
+      storeSearchCache.invalidate(indexed, storeIds);
+      return;
+    }
+    flushExecutor.schedule(() -> storeSearchCache.invalidate(indexed, storeIds),
+        cacheInvalidateDelay.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  // 그 사이 같은 매장에 더 새로운 변경이 들어왔으면 그것을 유지
+  private void requeue(List<PendingWrite> writes) {
+    synchronized (pending) {
+      writes.forEach(write -> pending.putIfAbsent(write.storeId(), write));
+    }
+  }
+}
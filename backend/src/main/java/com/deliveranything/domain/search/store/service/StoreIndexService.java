@@ -0,0 +1,260 @@
+package com.deliveranything.domain.search.store.service;
+
+import com.deliveranything.domain.product.product.dto.projection.StoreKeywordProjection;
+import com.deliveranything.domain.product.product.repository.ProductRepository;
+import com.deliveranything.domain.review.repository.ReviewRepository;
+import com.deliveranything.domain.search.store.document.StoreDocument;
+import com.deliveranything.domain.store.store.entity.Store;
+import com.deliveranything.domain.store.store.repository.StoreRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 매장 검색 인덱스 관리
+ * <p>
+ * - 읽기 / 쓰기는 alias(stores) 로 하고, 실제 인덱스는 stores_v{생성 시각} 으로 만든다.
+ * <p>
+ * - rebuild: 새 버전 인덱스를 만든 뒤 MySQL 매장을 id keyset 배치로 읽어 (카테고리 fetch join, 키워드는 배치당 조회 1회) _bulk 로
+ * 쓰고, 끝나면 alias 를 한 번의 요청으로 새 인덱스로 옮긴다.
+ * <p>
+ * - 재구축 중에는 새 인덱스 이름을 Redis 에 기록해 두고 실시간 변경(StoreIndexBulkProcessor, 키워드 동기화)을 양쪽에 쓴다. 재구축은
+ * create(없을 때만 생성)로 써서 그 사이 실시간으로 쓰인 더 최신 문서를 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreIndexService {
+
+  private static final String BUILDING_INDEX_KEY = "search:stores:building-index";
+  private static final String REBUILD_LOCK_KEY = "search:stores:rebuild:lock";
+  private static final DateTimeFormatter VERSION_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+  // 본인이 잡은 락만 해제
+  private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final StoreRepository storeRepository;
+  private final ProductRepository productRepository;
+  private final ReviewRepository reviewRepository;
+  private final StoreSearchCache storeSearchCache;
+  private final StringRedisTemplate redisTemplate;
+
+  @Value("${search.reindex.batch-size:500}")
+  private int batchSize;
+
+  @Value("${search.reindex.lock-ttl:30m}")
+  private Duration lockTtl;
+
+  // alias 가 없으면 빈 버전 인덱스를 만들어 연결 (실시간 변경이 동적 매핑 인덱스를 만들지 않도록)
+  // 예전 방식의 실제 인덱스(location 이 geo_point 가 아님)가 남아 있으면 재구축
+  @EventListener(ApplicationReadyEvent.class)
+  public void ensureIndex() {
+    try {
+      if (!elasticsearchOperations.indexOps(IndexCoordinates.of(StoreDocument.INDEX_ALIAS))
+          .exists()) {
+        String index = createVersionedIndex();
+        swapAlias(index);
+        log.info("Store search index {} created with alias {}.", index, StoreDocument.INDEX_ALIAS);
+      } else if (getAliasedIndices().contains(StoreDocument.INDEX_ALIAS)) {
+        log.info("Legacy store search index found, rebuilding into a versioned index.");
+        rebuildInBackground();
+      }
+    } catch (Exception e) {
+      log.error("Failed to prepare store search index", e);
+    }
+  }
+
+  /**
+   * 백그라운드에서 재구축 시작
+   *
+   * @return 이미 재구축 중이라 시작하지 않았으면 false
+   */
+  public boolean rebuildInBackground() {
+    if (getBuildingIndex() != null) {
+      return false;
+    }
+    Thread.ofVirtual().name("store-index-rebuild").start(() -> {
+      try {
+        if (rebuild() == null) {
+          log.info("Store search index rebuild skipped: already running on another node.");
+        }
+      } catch (Exception e) {
+        log.error("Store search index rebuild failed", e);
+      }
+    });
+    return true;
+  }
+
+  // 실시간 변경을 써야 하는 인덱스 (alias + 재구축 중인 인덱스)
+  public List<IndexCoordinates> writeIndices() {
+    String building = redisTemplate.opsForValue().get(BUILDING_INDEX_KEY);
+    return building == null
+        ? List.of(IndexCoordinates.of(StoreDocument.INDEX_ALIAS))
+        : List.of(IndexCoordinates.of(StoreDocument.INDEX_ALIAS), IndexCoordinates.of(building));
+  }
+
+  public String getBuildingIndex() {
+    return redisTemplate.opsForValue().get(BUILDING_INDEX_KEY);
+  }
+
+  // alias 가 가리키는 인덱스 (예전 방식의 실제 인덱스면 stores 자신)
+  public Set<String> getAliasedIndices() {
+    return elasticsearchOperations.indexOps(IndexCoordinates.of(StoreDocument.INDEX_ALIAS))
+        .getAliasesForIndex(StoreDocument.INDEX_ALIAS).keySet();
+  }
+
+  /**
+   * 전체 재구축 후 alias 교체 (노드 전체에서 한 번에 하나만 실행)
+   *
+   * @return 새 인덱스 이름, 이미 재구축 중이면 null
+   */
+  public String rebuild() {
+    String lockValue = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+        .setIfAbsent(REBUILD_LOCK_KEY, lockValue, lockTtl))) {
+      return null;
+    }
+    String index = null;
+    try {
+      index = createVersionedIndex();
+      redisTemplate.opsForValue().set(BUILDING_INDEX_KEY, index, lockTtl);
+
+      long indexed = 0;
+      long lastId = 0;
+      List<Store> stores;
+      while (!(stores = storeRepository.findBatchAfter(lastId, PageRequest.of(0, batchSize)))
+          .isEmpty()) {
+        createAll(toDocuments(stores), IndexCoordinates.of(index));
+        indexed += stores.size();
+        lastId = stores.getLast().getId();
+      }
+      elasticsearchOperations.indexOps(IndexCoordinates.of(index)).refresh();
+
+      Set<String> previous = swapAlias(index);
+      redisTemplate.delete(BUILDING_INDEX_KEY);
+      storeSearchCache.invalidateAll();
+      previous.forEach(old -> elasticsearchOperations.indexOps(IndexCoordinates.of(old)).delete());
+      log.info("Store search index rebuilt into {} ({} stores), previous: {}", index, indexed,
+          previous);
+      return index;
+    } catch (RuntimeException e) {
+      redisTemplate.delete(BUILDING_INDEX_KEY);
+      if (index != null) {
+        elasticsearchOperations.indexOps(IndexCoordinates.of(index)).delete();
+      }
+      throw e;
+    } finally {
+      redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), lockValue);
+    }
+  }
+
+  // 매장 목록을 검색 문서로 변환 (키워드 / 평점은 각각 조회 1회)
+  public List<StoreDocument> toDocuments(List<Store> stores) {
+    List<Long> storeIds = stores.stream().map(Store::getId).toList();
+    Map<Long, List<String>> keywordsByStoreId = new HashMap<>();
+    for (StoreKeywordProjection row : productRepository.findKeywordsByStoreIdIn(storeIds)) {
+      keywordsByStoreId.computeIfAbsent(row.storeId(), id -> new ArrayList<>()).add(row.keyword());
+    }
+    Map<Long, Double> ratings = reviewRepository.findAvgRatingsByStoreIdIn(storeIds);
+    return stores.stream()
+        .map(store -> {
+          StoreDocument document = StoreDocument.from(store);
+          document.setKeywords(keywordsByStoreId.getOrDefault(store.getId(), List.of()));
+          document.setRating(ratings.getOrDefault(store.getId(), 0.0));
+          return document;
+        })
+        .toList();
+  }
+
+  // 없는 문서만 생성, 재구축 중 실시간으로 먼저 쓰인 문서(409)는 그대로 둠
+  private void createAll(List<StoreDocument> documents, IndexCoordinates index) {
+    List<IndexQuery> queries = documents.stream()
+        .map(document -> new IndexQueryBuilder()
+            .withId(String.valueOf(document.getId()))
+            .withObject(document)
+            .withOpType(IndexQuery.OpType.CREATE)
+            .build())
+        .toList();
+    try {
+      elasticsearchOperations.bulkIndex(queries, index);
+    } catch (BulkFailureException e) {
+      if (e.getFailedDocuments().values().stream()
+          .anyMatch(failure -> !Objects.equals(failure.status(), 409))) {
+        throw e;
+      }
+    }
+  }
+
+  private String createVersionedIndex() {
+    String index = StoreDocument.INDEX_ALIAS + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+    IndexOperations template = elasticsearchOperations.indexOps(StoreDocument.class);
+    elasticsearchOperations.indexOps(IndexCoordinates.of(index))
+        .create(template.createSettings(), template.createMapping());
+    return index;
+  }
+
+  /**
+   * alias 를 index 로 옮김 (제거 + 추가를 한 요청으로 처리해 읽기가 끊기지 않음)
+   * <p>
+   * 예전 방식으로 만들어진 stores 실제 인덱스가 있으면 같은 요청에서 지운다.
+   *
+   * @return alias 가 가리키던 이전 인덱스
+   */
+  private Set<String> swapAlias(String index) {
+    IndexOperations aliasOps =
+        elasticsearchOperations.indexOps(IndexCoordinates.of(StoreDocument.INDEX_ALIAS));
+    Set<String> current = aliasOps.exists()
+        ? aliasOps.getAliasesForIndex(StoreDocument.INDEX_ALIAS).keySet() : Set.of();
+    boolean legacyIndex = current.contains(StoreDocument.INDEX_ALIAS);
+
+    AliasActions actions = new AliasActions();
+    if (legacyIndex) {
+      actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+          .withIndices(StoreDocument.INDEX_ALIAS)
+          .build()));
+    } else {
+      current.forEach(old -> actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+          .withIndices(old)
+          .withAliases(StoreDocument.INDEX_ALIAS)
+          .build())));
+    }
+    actions.add(new AliasAction.Add(AliasActionParameters.builder()
+        .withIndices(index)
+        .withAliases(StoreDocument.INDEX_ALIAS)
+        .build()));
+    elasticsearchOperations.indexOps(IndexCoordinates.of(index)).alias(actions);
+    return legacyIndex ? Set.of() : current;
+  }
+}
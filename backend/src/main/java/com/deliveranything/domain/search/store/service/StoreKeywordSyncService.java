@@ -1,31 +1,84 @@
 package com.deliveranything.domain.search.store.service;
 
+import com.deliveranything.domain.product.product.dto.projection.StoreKeywordProjection;
 import com.deliveranything.domain.product.product.repository.ProductRepository;
 import com.deliveranything.domain.search.store.repository.StoreSearchRepository;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 매장 검색 문서의 keywords 동기화
+ * <p>
+ * 키워드 변경 요청은 search:store-keywords:pending (zset, score = 반영 시각) 에 매장 단위로 모은다. 처음 요청된 시각부터
+ * debounce-window 안에 들어온 요청은 하나로 합쳐지고, 반영 시각이 지난 매장은 StoreKeywordSyncScheduler 가 배치로 꺼내 (매장,
+ * 키워드) 조회 1회 + keywords 부분 업데이트 bulk 1회로 처리한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StoreKeywordSyncService {
 
+  private static final String PENDING_KEY = "search:store-keywords:pending";
+
+  // 반영 시각이 지난 매장을 꺼냄 (여러 노드가 동시에 꺼내도 한 매장은 한 노드만 가져감)
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> POP_DUE_SCRIPT = RedisScript.of("""
+      local storeIds = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+      if #storeIds > 0 then
+        redis.call('ZREM', KEYS[1], unpack(storeIds))
+      end
+      return storeIds
+      """, List.class);
+
   private final ProductRepository productRepository;
   private final StoreSearchRepository storeSearchRepository;
+  private final StringRedisTemplate redisTemplate;
 
-  @Transactional(readOnly = true)
-  public void syncKeywords(Long storeId) {
+  @Value("${search.keyword-sync.debounce-window:5s}")
+  private Duration debounceWindow;
+
+  // 이미 대기 중인 매장이면 기존 반영 시각을 유지 (계속 바뀌는 매장도 window 안에는 반영됨)
+  public void requestSync(Long storeId) {
+    redisTemplate.opsForZSet().addIfAbsent(PENDING_KEY, String.valueOf(storeId),
+        System.currentTimeMillis() + debounceWindow.toMillis());
+  }
 
-    storeSearchRepository.findById(storeId).ifPresent(storeDocument -> {
+  /**
+   * 반영 시각이 지난 매장을 최대 batchSize 개 동기화
+   *
+   * @return 처리한 매장 수
+   */
+  public int syncDue(int batchSize) {
+    List<?> popped = redisTemplate.execute(POP_DUE_SCRIPT, List.of(PENDING_KEY),
+        String.valueOf(System.currentTimeMillis()), String.valueOf(batchSize));
+    if (popped == null || popped.isEmpty()) {
+      return 0;
+    }
+    List<Long> storeIds = popped.stream().map(id -> Long.valueOf(id.toString())).toList();
 
-      Set<String> allKeywords = productRepository.findAllByStoreId(storeId).stream()
-          .flatMap(p -> p.getKeywords().stream())
-          .collect(Collectors.toSet());
+    // 상품이 모두 지워진 매장도 빈 목록으로 덮어써야 하므로 모든 매장을 먼저 넣어 둠
+    Map<Long, List<String>> keywordsByStoreId = new LinkedHashMap<>();
+    storeIds.forEach(storeId -> keywordsByStoreId.put(storeId, new ArrayList<>()));
+    for (StoreKeywordProjection row : productRepository.findKeywordsByStoreIdIn(storeIds)) {
+      keywordsByStoreId.get(row.storeId()).add(row.keyword());
+    }
 
-      storeDocument.setKeywords(allKeywords.stream().toList());
-      storeSearchRepository.save(storeDocument);
-    });
+    try {
+      storeSearchRepository.updateKeywords(keywordsByStoreId);
+    } catch (RuntimeException e) {
+      storeIds.forEach(this::requestSync); // 다음 window 에 재시도
+      throw e;
+    }
+    log.info("Synchronized keywords of {} stores to ES.", storeIds.size());
+    return storeIds.size();
   }
 }
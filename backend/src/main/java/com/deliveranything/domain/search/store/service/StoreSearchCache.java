@@ -0,0 +1,318 @@
+package com.deliveranything.domain.search.store.service;
+
+import com.deliveranything.domain.search.store.document.StoreDocument;
+import com.deliveranything.domain.search.store.dto.StoreSearchRequest;
+import com.deliveranything.domain.search.store.dto.StoreSearchResult;
+import com.deliveranything.domain.search.store.enums.StoreSearchSortType;
+import com.deliveranything.domain.store.store.enums.StoreStatus;
+import com.deliveranything.global.common.CursorPageResponse;
+import com.deliveranything.global.util.GeoUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장 검색 결과 캐시 (geohash 셀 단위)
+ * <p>
+ * (셀, 카테고리, 정규화한 검색어, 정렬, 반경, limit, 페이지 토큰) 마다 셀 중심 좌표에서 반경 + 셀 반대각선 거리로 검색한 결과를 보관한다.
+ * 셀 안 어느 좌표에서든 반경 안의 매장은 모두 포함되므로, 호출자 좌표 기준 반경 밖 매장을 걸러내고 거리와 배달비를 다시 계산하는 것은
+ * {@link StoreSearchService} 가 한다. 노드별 Caffeine 캐시를 먼저 보고, redis-enabled 이면 셀 단위 Redis Hash 를 2차 캐시로 사용한다.
+ * <p>
+ * 매장 문서가 ES 에 반영되면 새 위치 주변 셀과 그 매장을 포함한 항목을 모든 노드에서 무효화한다 (Redis Pub/Sub).
+ */
+@Slf4j
+@Component
+public class StoreSearchCache {
+
+  private static final String INVALIDATION_CHANNEL = "store-search-cache-invalidation";
+  private static final String CELL_KEY_PREFIX = "search:stores:cache:cell:";
+  // 매장 -> 그 매장이 포함된 Redis 캐시 셀 (삭제 / 이전된 매장의 이전 셀 무효화용)
+  private static final String STORE_CELLS_KEY_PREFIX = "search:stores:cache:store:";
+
+  public record CachedStore(
+      Long id,
+      String name,
+      String roadAddress,
+      StoreStatus status,
+      String imageUrl,
+      String categoryName,
+      double lat,
+      double lng
+  ) {
+
+  }
+
+  public record CachedPage(
+      List<CachedStore> stores,
+      String nextPageToken,
+      boolean hasNext,
+      long cachedAt
+  ) {
+
+    private boolean containsAny(Set<Long> storeIds) {
+      return !storeIds.isEmpty() && stores.stream().anyMatch(store -> storeIds.contains(store.id()));
+    }
+  }
+
+  private record CacheKey(
+      String cell,
+      Long categoryId,
+      String text,
+      StoreSearchSortType sort,
+      double distanceKm,
+      int limit,
+      String pageToken
+  ) {
+
+    // 셀 Hash 안의 필드 (검색어는 구분자를 포함할 수 있으므로 마지막에 둠)
+    private String field() {
+      return categoryId + "|" + sort + "|" + distanceKm + "|" + limit + "|" + pageToken + "|" + text;
+    }
+  }
+
+  private record Invalidation(Set<String> cells, Set<Long> storeIds, boolean all) {
+
+  }
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer container;
+  private final ObjectMapper objectMapper;
+
+  private final Cache<CacheKey, CachedPage> cache;
+  private final boolean enabled;
+  private final boolean redisEnabled;
+  private final int geohashPrecision;
+  private final Duration ttl;
+
+  public StoreSearchCache(
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer container,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${search.cache.enabled:true}") boolean enabled,
+      @Value("${search.cache.redis-enabled:false}") boolean redisEnabled,
+      @Value("${search.cache.geohash-precision:6}") int geohashPrecision,
+      @Value("${search.cache.ttl:30s}") Duration ttl,
+      @Value("${search.cache.max-size:10000}") long maxSize
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.container = container;
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+    this.redisEnabled = redisEnabled;
+    this.geohashPrecision = geohashPrecision;
+    this.ttl = ttl;
+
+    this.cache = CaffeineCacheMetrics.monitor(meterRegistry,
+        Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build(),
+        "store-search");
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    container.addMessageListener((message, pattern) -> {
+      try {
+        evictLocal(objectMapper.readValue(message.getBody(), Invalidation.class));
+      } catch (Exception e) {
+        log.warn("Failed to process store search cache invalidation, clearing local cache", e);
+        cache.invalidateAll();
+      }
+    }, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  /**
+   * 요청 좌표가 속한 셀의 검색 결과, 없으면 셀 중심 좌표로 넓힌 반경의 search 를 호출해 채운다 (같은 키 동시 요청은 한 번만 검색)
+   * <p>
+   * 결과에는 호출자 좌표 기준 반경 밖의 매장이 섞여 있을 수 있다.
+   */
+  public CachedPage get(StoreSearchRequest request,
+      Function<StoreSearchRequest, CursorPageResponse<StoreSearchResult>> search) {
+    if (!enabled) {
+      return toPage(search.apply(request));
+    }
+    CacheKey key = new CacheKey(
+        GeoUtil.geohash(request.lat(), request.lng(), geohashPrecision),
+        request.categoryId(),
+        normalize(request.searchText()),
+        request.sort(),
+        request.distanceKm(),
+        request.limit(),
+        Objects.toString(request.nextPageToken(), ""));
+    return cache.get(key, k -> load(k, request, search));
+  }
+
+  /**
+   * ES 에 반영된 매장 문서 기준 무효화
+   *
+   * @param indexed  새로 쓴 문서 (새 위치 주변 셀 무효화)
+   * @param storeIds 쓰거나 지운 매장 전체 (해당 매장을 포함한 항목 무효화)
+   */
+  public void invalidate(Collection<StoreDocument> indexed, Collection<Long> storeIds) {
+    if (!enabled || storeIds.isEmpty()) {
+      return;
+    }
+    Set<String> cells = new HashSet<>();
+    indexed.stream()
+        .filter(document -> document.getLocation() != null)
+        .forEach(document -> cells.addAll(GeoUtil.geohashesCovering(
+            document.getLocation().getLat(), document.getLocation().getLon(),
+            StoreSearchRequest.MAX_DISTANCE_KM, geohashPrecision)));
+    publish(new Invalidation(cells, Set.copyOf(storeIds), false));
+  }
+
+  // 인덱스 재구축 후 전체 무효화 (Redis 2차 캐시는 TTL 로 만료)
+  public void invalidateAll() {
+    if (enabled) {
+      publish(new Invalidation(Set.of(), Set.of(), true));
+    }
+  }
+
+  private CachedPage load(CacheKey key, StoreSearchRequest request,
+      Function<StoreSearchRequest, CursorPageResponse<StoreSearchResult>> search) {
+    if (redisEnabled) {
+      CachedPage cached = readRedis(key);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    double[] center = GeoUtil.geohashCenter(key.cell());
+    double distanceKm = key.distanceKm() + GeoUtil.geohashHalfDiagonalKm(key.cell());
+    CachedPage page = toPage(search.apply(request.withArea(center[0], center[1], distanceKm)));
+    if (redisEnabled) {
+      writeRedis(key, page);
+    }
+    return page;
+  }
+
+  private CachedPage readRedis(CacheKey key) {
+    try {
+      Object json = redisTemplate.opsForHash().get(CELL_KEY_PREFIX + key.cell(), key.field());
+      if (json == null) {
+        return null;
+      }
+      CachedPage page = objectMapper.readValue((String) json, CachedPage.class);
+      // 셀 Hash 의 TTL 은 쓸 때마다 연장되므로 항목별 저장 시각으로 만료 판단
+      return page.cachedAt() + ttl.toMillis() > System.currentTimeMillis() ? page : null;
+    } catch (Exception e) {
+      log.warn("Failed to read store search cache from Redis: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeRedis(CacheKey key, CachedPage page) {
+    try {
+      byte[] cellKey = bytes(CELL_KEY_PREFIX + key.cell());
+      byte[] field = bytes(key.field());
+      byte[] value = objectMapper.writeValueAsBytes(page);
+      long ttlMillis = ttl.toMillis();
+
+      redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        connection.hashCommands().hSet(cellKey, field, value);
+        connection.keyCommands().pExpire(cellKey, ttlMillis);
+        page.stores().forEach(store -> {
+          byte[] storeKey = bytes(STORE_CELLS_KEY_PREFIX + store.id());
+          connection.setCommands().sAdd(storeKey, bytes(key.cell()));
+          connection.keyCommands().pExpire(storeKey, ttlMillis);
+        });
+        return null;
+      });
+    } catch (Exception e) {
+      log.warn("Failed to write store search cache to Redis: {}", e.getMessage());
+    }
+  }
+
+  private void publish(Invalidation invalidation) {
+    try {
+      if (redisEnabled && !invalidation.all()) {
+        deleteRedisEntries(invalidation);
+      }
+      redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+          objectMapper.writeValueAsString(invalidation));
+    } catch (Exception e) {
+      // 발행 실패 시 이 노드만이라도 무효화, 다른 노드는 TTL 로 만료
+      log.warn("Failed to publish store search cache invalidation: {}", e.getMessage());
+      evictLocal(invalidation);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void deleteRedisEntries(Invalidation invalidation) {
+    List<String> storeKeys = invalidation.storeIds().stream()
+        .map(storeId -> STORE_CELLS_KEY_PREFIX + storeId)
+        .toList();
+    List<Object> storeCells = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      storeKeys.forEach(storeKey -> connection.setCommands().sMembers(bytes(storeKey)));
+      return null;
+    });
+
+    Set<String> cells = new HashSet<>(invalidation.cells());
+    storeCells.forEach(members -> cells.addAll((Set<String>) members));
+    redisTemplate.delete(Stream.concat(
+            cells.stream().map(cell -> CELL_KEY_PREFIX + cell),
+            storeKeys.stream())
+        .toList());
+  }
+
+  private void evictLocal(Invalidation invalidation) {
+    if (invalidation.all()) {
+      cache.invalidateAll();
+      return;
+    }
+    cache.asMap().entrySet().removeIf(entry ->
+        invalidation.cells().contains(entry.getKey().cell())
+            || entry.getValue().containsAny(invalidation.storeIds()));
+  }
+
+  private static CachedPage toPage(CursorPageResponse<StoreSearchResult> results) {
+    List<CachedStore> stores = results.content().stream()
+        .map(StoreSearchResult::document)
+        .map(doc -> new CachedStore(
+            doc.getId(),
+            doc.getName(),
+            doc.getRoadAddress(),
+            doc.getStatus(),
+            doc.getImageUrl(),
+            doc.getCategoryName(),
+            doc.getLocation().getLat(),
+            doc.getLocation().getLon()))
+        .toList();
+    return new CachedPage(stores, results.nextPageToken(), results.hasNext(),
+        System.currentTimeMillis());
+  }
+
+  // 대소문자 / 앞뒤 / 연속 공백만 다른 검색어는 같은 키로 (검색 결과도 분석기 기준으로 같음)
+  private static String normalize(String searchText) {
+    if (searchText == null) {
+      return "";
+    }
+    return searchText.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
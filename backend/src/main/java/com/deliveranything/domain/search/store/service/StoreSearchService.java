@@ -1,12 +1,19 @@
 package com.deliveranything.domain.search.store.service;
 
-import com.deliveranything.domain.search.store.document.StoreDocument;
 import com.deliveranything.domain.search.store.dto.StoreSearchRequest;
 import com.deliveranything.domain.search.store.dto.StoreSearchResponse;
+import com.deliveranything.domain.search.store.enums.StoreSearchSortType;
 import com.deliveranything.domain.search.store.repository.StoreSearchRepository;
+import com.deliveranything.domain.search.store.service.StoreSearchCache.CachedPage;
+import com.deliveranything.domain.search.store.service.StoreSearchCache.CachedStore;
+import com.deliveranything.domain.store.store.enums.StoreStatus;
+import com.deliveranything.domain.store.store.service.StoreStatusService;
 import com.deliveranything.global.common.CursorPageResponse;
 import com.deliveranything.global.util.GeoUtil;
-import java.util.List;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,31 +22,42 @@ import org.springframework.stereotype.Service;
 public class StoreSearchService {
 
   private final StoreSearchRepository storeSearchRepository;
+  private final StoreSearchCache storeSearchCache;
+  private final StoreStatusService storeStatusService;
 
   public CursorPageResponse<StoreSearchResponse> search(StoreSearchRequest request) {
-    CursorPageResponse<StoreDocument> results = storeSearchRepository.search(request);
+    CachedPage page = storeSearchCache.get(request, storeSearchRepository::search);
+    // 영업 상태는 캐시 / 검색 문서 대신 Redis 의 최신 값으로 덮어씀 (기록이 없으면 문서 값)
+    Map<Long, StoreStatus> statuses = storeStatusService.getStatuses(
+        page.stores().stream().map(CachedStore::id).toList());
 
-    List<StoreSearchResponse> dtoList = results.content().stream()
-        .map(doc -> {
+    // 캐시된 결과는 셀 중심 좌표에서 넓힌 반경 기준이므로 호출자 좌표로 거리를 다시 계산해 반경 밖 매장은 제외
+    Stream<StoreSearchResponse> responses = page.stores().stream()
+        .map(store -> {
           double distanceKm = GeoUtil.distanceKm(
-              request.lat(), request.lng(),
-              doc.getLocation().getLat(), doc.getLocation().getLon()
-          );
+              request.lat(), request.lng(), store.lat(), store.lng());
+          if (distanceKm > request.distanceKm()) {
+            return null;
+          }
           int deliveryFee = estimateDeliveryFee(distanceKm);
           return new StoreSearchResponse(
-              doc.getId(),
-              doc.getName(),
-              doc.getRoadAddress(),
-              doc.getStatus(),
-              doc.getImageUrl(),
-              doc.getCategoryName(),
+              store.id(),
+              store.name(),
+              store.roadAddress(),
+              statuses.getOrDefault(store.id(), store.status()),
+              store.imageUrl(),
+              store.categoryName(),
               distanceKm,
               deliveryFee
           );
         })
-        .toList();
+        .filter(Objects::nonNull);
+    // 거리순은 페이지 안에서 호출자 기준 거리로 다시 정렬 (페이지 경계는 셀 중심 기준)
+    if (request.sort() == StoreSearchSortType.DISTANCE) {
+      responses = responses.sorted(Comparator.comparingDouble(StoreSearchResponse::distance));
+    }
 
-    return new CursorPageResponse<>(dtoList, results.nextPageToken(), results.hasNext());
+    return new CursorPageResponse<>(responses.toList(), page.nextPageToken(), page.hasNext());
   }
 
   private int estimateDeliveryFee(double distanceKm) {
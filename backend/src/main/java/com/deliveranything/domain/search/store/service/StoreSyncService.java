@@ -3,7 +3,9 @@ package com.deliveranything.domain.search.store.service;
 import com.deliveranything.domain.search.store.document.StoreDocument;
 import com.deliveranything.domain.search.store.repository.StoreSearchRepository;
 import com.deliveranything.domain.store.store.entity.Store;
+import com.deliveranything.domain.store.store.enums.StoreStatus;
 import com.deliveranything.domain.store.store.service.StoreService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,18 +17,27 @@ import org.springframework.transaction.annotation.Transactional;
 public class StoreSyncService {
 
   private final StoreService storeService;
+  private final StoreIndexService storeIndexService;
+  private final StoreIndexBulkProcessor storeIndexBulkProcessor;
   private final StoreSearchRepository storeSearchRepository;
 
+  // 상품 키워드까지 채운 문서를 bulk 버퍼에 넣음 (flush 주기 안에 반영)
   @Transactional(readOnly = true)
   public void handleSaved(Long storeId) {
     Store store = storeService.getStoreById(storeId);
-    StoreDocument doc = StoreDocument.from(store);
-    storeSearchRepository.save(doc);
-    log.info("Store (ID: {}) synchronized to ES.", storeId);
+    StoreDocument doc = storeIndexService.toDocuments(List.of(store)).getFirst();
+    storeIndexBulkProcessor.index(doc);
+    log.info("Store (ID: {}) queued for ES synchronization.", storeId);
   }
 
   public void handleDeleted(Long storeId) {
-    storeSearchRepository.deleteById(storeId);
-    log.info("Store (ID: {}) deleted from ES.", storeId);
+    storeIndexBulkProcessor.delete(storeId);
+    log.info("Store (ID: {}) queued for deletion from ES.", storeId);
+  }
+
+  // 영업 상태 토글은 문서 전체를 다시 쓰지 않고 status 만 갱신 (검색 결과는 StoreStatusService 로 이미 반영됨)
+  public void handleStatusChanged(Long storeId, StoreStatus status) {
+    storeSearchRepository.updateStatus(storeId, status);
+    log.debug("Store (ID: {}) status updated to {} in ES.", storeId, status);
   }
 }
@@ -2,41 +2,26 @@ package com.deliveranything.domain.search.store.subscriber;
 
 import com.deliveranything.domain.product.product.event.ProductKeywordsChangedEvent;
 import com.deliveranything.domain.search.store.service.StoreKeywordSyncService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventTransport;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class ProductEventSubscriber implements MessageListener {
+public class ProductEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventTransport eventTransport;
   private final StoreKeywordSyncService storeKeywordSyncService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new PatternTopic("product-keywords-events"));
+    eventTransport.subscribe("product-keywords-events", "search",
+        ProductKeywordsChangedEvent.class, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      String json = new String(message.getBody());
-      ProductKeywordsChangedEvent event = objectMapper.readValue(json, ProductKeywordsChangedEvent.class);
-
-      storeKeywordSyncService.syncKeywords(event.storeId());
-
-    } catch (Exception e) {
-      log.error("Failed to process product keyword event from Redis", e);
-    }
+  // 매장별로 모아 debounce 후 한 번에 반영
+  private void handle(ProductKeywordsChangedEvent event) {
+    storeKeywordSyncService.requestSync(event.storeId());
   }
 }
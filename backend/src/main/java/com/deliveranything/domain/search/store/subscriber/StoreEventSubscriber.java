@@ -4,51 +4,44 @@ import com.deliveranything.domain.search.store.service.StoreSyncService;
 import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
 import com.deliveranything.domain.store.store.event.StoreEventType;
 import com.deliveranything.domain.store.store.event.StoreSavedEvent;
+import com.deliveranything.domain.store.store.event.StoreStatusChangedEvent;
+import com.deliveranything.global.event.EventTransport;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class StoreEventSubscriber implements MessageListener {
+public class StoreEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
+  private final EventTransport eventTransport;
   private final ObjectMapper objectMapper;
   private final StoreSyncService storeSyncService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new PatternTopic("store-events"));
+    eventTransport.subscribe("store-events", "search", JsonNode.class, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      String json = new String(message.getBody());
-      JsonNode node = objectMapper.readTree(json);
-      StoreEventType type = StoreEventType.valueOf(node.get("type").asText());
+  private void handle(JsonNode node) throws JsonProcessingException {
+    StoreEventType type = StoreEventType.valueOf(node.get("type").asText());
 
-      switch (type) {
-        case SAVED -> {
-          StoreSavedEvent event = objectMapper.treeToValue(node, StoreSavedEvent.class);
-          storeSyncService.handleSaved(event.storeId());
-        }
-        case DELETED -> {
-          StoreDeletedEvent event = objectMapper.treeToValue(node, StoreDeletedEvent.class);
-          storeSyncService.handleDeleted(event.storeId());
-        }
+    switch (type) {
+      case SAVED -> {
+        StoreSavedEvent event = objectMapper.treeToValue(node, StoreSavedEvent.class);
+        storeSyncService.handleSaved(event.storeId());
+      }
+      case DELETED -> {
+        StoreDeletedEvent event = objectMapper.treeToValue(node, StoreDeletedEvent.class);
+        storeSyncService.handleDeleted(event.storeId());
+      }
+      case STATUS_CHANGED -> {
+        StoreStatusChangedEvent event = objectMapper.treeToValue(node, StoreStatusChangedEvent.class);
+        storeSyncService.handleStatusChanged(event.storeId(), event.status());
       }
-    } catch (Exception e) {
-      log.error("Failed to process store event from Redis: {}", new String(message.getBody()), e);
     }
   }
-}
\ No newline at end of file
+}
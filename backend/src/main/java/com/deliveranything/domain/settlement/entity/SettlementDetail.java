@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,7 +15,14 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "settlement_details")
+// 주문 완료 이벤트가 재전달돼도 주문 / 대상별 정산은 하나만
+@Table(
+    name = "settlement_details",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_settlement_details_order_target",
+            columnNames = {"order_id", "target_id"})
+    }
+)
 public class SettlementDetail extends BaseEntity {
 
   @Column(nullable = false)
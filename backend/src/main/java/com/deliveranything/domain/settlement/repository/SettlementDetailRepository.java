@@ -3,6 +3,7 @@ package com.deliveranything.domain.settlement.repository;
 import com.deliveranything.domain.settlement.entity.SettlementDetail;
 import com.deliveranything.domain.settlement.enums.SettlementStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,6 +14,10 @@ public interface SettlementDetailRepository extends JpaRepository<SettlementDeta
 
   Optional<SettlementDetail> findByOrderIdAndTargetId(Long orderId, Long targetId);
 
+  boolean existsByOrderIdAndTargetId(Long orderId, Long targetId);
+
+  List<SettlementDetail> findAllByOrderIdInAndTargetId(Collection<Long> orderIds, Long targetId);
+
   @Query("SELECT sd FROM SettlementDetail sd WHERE sd.status = :status "
       + "AND :startDateTime <= sd.createdAt AND sd.createdAt < :endDateTime")
   List<SettlementDetail> findAllByStatusAndDateTime(
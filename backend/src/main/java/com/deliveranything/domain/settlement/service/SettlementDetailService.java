@@ -9,6 +9,8 @@ import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,10 @@ public class SettlementDetailService {
 
   @Transactional
   public void createSellerSettlement(Long orderId, Long sellerProfileId, Long storePrice) {
+    // 재전달된 주문 완료 이벤트 (이미 정산 생성됨)
+    if (settlementDetailRepository.existsByOrderIdAndTargetId(orderId, sellerProfileId)) {
+      return;
+    }
     double PLATFORM_FEE_RATE = 0.08;
     long platformFee = (long) (storePrice * PLATFORM_FEE_RATE);
 
@@ -36,6 +42,9 @@ public class SettlementDetailService {
 
   @Transactional
   public void createRiderSettlement(Long orderId, Long riderProfileId, Long deliveryPrice) {
+    if (settlementDetailRepository.existsByOrderIdAndTargetId(orderId, riderProfileId)) {
+      return;
+    }
     SettlementDetail settlementDetail = SettlementDetail.builder()
         .orderId(orderId)
         .targetId(riderProfileId)
@@ -54,6 +63,19 @@ public class SettlementDetailService {
             .orElseThrow(() -> new CustomException(ErrorCode.SETTLEMENT_DETAIL_NOT_FOUND)));
   }
 
+  // 배달원이 배달한 여러 주문의 정산 상태 일괄 조회 (orderId -> 상태)
+  @Transactional(readOnly = true)
+  public Map<Long, SettlementStatus> getRiderSettlementStatuses(List<Long> orderIds,
+      Long riderProfileId) {
+    if (orderIds.isEmpty()) {
+      return Map.of();
+    }
+    return settlementDetailRepository.findAllByOrderIdInAndTargetId(orderIds, riderProfileId)
+        .stream()
+        .collect(Collectors.toMap(SettlementDetail::getOrderId, SettlementDetail::getStatus,
+            (first, second) -> first));
+  }
+
   // 금일 미정산 정보
   @Transactional(readOnly = true)
   public UnsettledResponse getUnsettledDetail(Long targetId) {
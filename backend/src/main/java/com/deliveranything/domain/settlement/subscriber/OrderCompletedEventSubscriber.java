@@ -2,42 +2,35 @@ package com.deliveranything.domain.settlement.subscriber;
 
 import com.deliveranything.domain.order.event.OrderCompletedEvent;
 import com.deliveranything.domain.settlement.service.SettlementDetailService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventTransport;
+import com.deliveranything.global.exception.CustomException;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderCompletedEventSubscriber implements MessageListener {
+public class OrderCompletedEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventTransport eventTransport;
   private final SettlementDetailService settlementDetailService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-completed-event"));
+    eventTransport.subscribe("order-completed-event", "settlement",
+        OrderCompletedEvent.class, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
+  private void handle(OrderCompletedEvent event) {
     try {
-      OrderCompletedEvent event = objectMapper.readValue(message.getBody(),
-          OrderCompletedEvent.class);
       settlementDetailService.createRiderSettlement(event.orderId(), event.riderProfileId(),
           event.deliveryPrice());
       settlementDetailService.createSellerSettlement(event.orderId(), event.sellerProfileId(),
           event.storePrice());
-    } catch (Exception e) {
-      log.error("Failed to process order completed event from Redis", e);
+    } catch (CustomException e) {
+      log.warn("Settlement creation failed for order {}: {}", event.orderId(), e.getMessage());
     }
   }
 }
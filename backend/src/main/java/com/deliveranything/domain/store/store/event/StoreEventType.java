@@ -2,5 +2,6 @@ package com.deliveranything.domain.store.store.event;
 
 public enum StoreEventType {
   SAVED,
-  DELETED
+  DELETED,
+  STATUS_CHANGED  // 영업 상태만 변경 (검색 문서 status 부분 업데이트)
 }
\ No newline at end of file
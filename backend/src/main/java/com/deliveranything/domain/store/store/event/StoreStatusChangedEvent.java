@@ -0,0 +1,13 @@
+package com.deliveranything.domain.store.store.event;
+
+import com.deliveranything.domain.store.store.enums.StoreStatus;
+
+public record StoreStatusChangedEvent(
+    Long storeId,
+    StoreStatus status,
+    StoreEventType type
+) {
+  public StoreStatusChangedEvent(Long storeId, StoreStatus status) {
+    this(storeId, status, StoreEventType.STATUS_CHANGED);
+  }
+}
@@ -2,8 +2,9 @@ package com.deliveranything.domain.store.store.publisher;
 
 import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
 import com.deliveranything.domain.store.store.event.StoreSavedEvent;
+import com.deliveranything.domain.store.store.event.StoreStatusChangedEvent;
+import com.deliveranything.global.event.outbox.OutboxEventRecorder;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
@@ -12,15 +13,20 @@ import org.springframework.transaction.event.TransactionPhase;
 @RequiredArgsConstructor
 public class StoreEventPublisher {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final OutboxEventRecorder outboxEventRecorder;
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleStoreSavedEvent(StoreSavedEvent event) {
-    redisTemplate.convertAndSend("store-events", event);
+    outboxEventRecorder.record("store-events", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
   public void handleStoreDeletedEvent(StoreDeletedEvent event) {
-    redisTemplate.convertAndSend("store-events", event);
+    outboxEventRecorder.record("store-events", event);
   }
-}
\ No newline at end of file
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+  public void handleStoreStatusChangedEvent(StoreStatusChangedEvent event) {
+    outboxEventRecorder.record("store-events", event);
+  }
+}
@@ -3,12 +3,25 @@ package com.deliveranything.domain.store.store.repository;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
   boolean existsBySellerProfileId(Long sellerProfileId);
 
+  // 검색 색인 재구축용 id 기준 keyset 배치 (카테고리 함께 조회)
+  @Query("""
+      SELECT s FROM Store s
+      JOIN FETCH s.storeCategory
+      WHERE s.id > :lastId
+      ORDER BY s.id
+      """)
+  List<Store> findBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
+
   default Store getById(Long storeId) {
     return findById(storeId)
         .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
@@ -9,6 +9,7 @@ import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.store.store.enums.StoreStatus;
 import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
 import com.deliveranything.domain.store.store.event.StoreSavedEvent;
+import com.deliveranything.domain.store.store.event.StoreStatusChangedEvent;
 import com.deliveranything.domain.store.store.repository.StoreRepository;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
@@ -25,6 +26,7 @@ public class StoreService {
 
   private final StoreRepository storeRepository;
   private final StoreCategoryService storeCategoryService;
+  private final StoreStatusService storeStatusService;
   private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
@@ -47,6 +49,7 @@ public class StoreService {
     store.updateStatus(StoreStatus.CLOSED);
 
     storeRepository.save(store);
+    storeStatusService.put(store.getId(), store.getStatus());
 
     eventPublisher.publishEvent(new StoreSavedEvent(store.getId()));
 
@@ -75,6 +78,7 @@ public class StoreService {
   public void deleteStore(Long storeId) {
     Store store = this.getStoreById(storeId);
     storeRepository.delete(store);
+    storeStatusService.remove(store.getId());
     eventPublisher.publishEvent(new StoreDeletedEvent(store.getId()));
   }
 
@@ -95,7 +99,9 @@ public class StoreService {
     StoreStatus newStatus = (store.getStatus() == StoreStatus.OPEN) ? StoreStatus.CLOSED : StoreStatus.OPEN;
     store.updateStatus(newStatus);
 
-    eventPublisher.publishEvent(new StoreSavedEvent(store.getId()));
+    // 검색 결과에는 Redis 상태가 바로 반영되고, 검색 문서는 status 필드만 부분 업데이트
+    storeStatusService.put(store.getId(), newStatus);
+    eventPublisher.publishEvent(new StoreStatusChangedEvent(store.getId(), newStatus));
     return StoreResponse.from(store);
   }
 
@@ -0,0 +1,66 @@
+package com.deliveranything.domain.store.store.service;
+
+import com.deliveranything.domain.store.store.enums.StoreStatus;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 매장 영업 상태 (Redis Hash store:status, storeId -> StoreStatus)
+ * <p>
+ * 상태 변경은 커밋 직후 요청 스레드에서 바로 기록하고, 검색 결과는 읽을 때 이 값으로 덮어쓴다. 기록이 없는 매장은 호출자가 가진 값(검색 문서)을
+ * 그대로 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StoreStatusService {
+
+  private static final String STATUS_KEY = "store:status";
+
+  private final StringRedisTemplate redisTemplate;
+
+  // 롤백된 변경이 남지 않도록 커밋 후 기록 (트랜잭션 밖이면 바로 기록)
+  public void put(Long storeId, StoreStatus status) {
+    runAfterCommit(() -> redisTemplate.opsForHash()
+        .put(STATUS_KEY, String.valueOf(storeId), status.name()));
+  }
+
+  public void remove(Long storeId) {
+    runAfterCommit(() -> redisTemplate.opsForHash().delete(STATUS_KEY, String.valueOf(storeId)));
+  }
+
+  // HMGET 1회, 기록이 없는 매장은 결과에서 빠짐
+  public Map<Long, StoreStatus> getStatuses(List<Long> storeIds) {
+    if (storeIds.isEmpty()) {
+      return Map.of();
+    }
+    List<String> values = redisTemplate.<String, String>opsForHash().multiGet(STATUS_KEY,
+        storeIds.stream().map(String::valueOf).toList());
+
+    Map<Long, StoreStatus> statuses = new HashMap<>();
+    for (int i = 0; i < storeIds.size(); i++) {
+      if (values.get(i) != null) {
+        statuses.put(storeIds.get(i), StoreStatus.valueOf(values.get(i)));
+      }
+    }
+    return statuses;
+  }
+
+  private void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
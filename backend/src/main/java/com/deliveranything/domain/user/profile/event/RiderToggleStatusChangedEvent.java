@@ -0,0 +1,16 @@
+package com.deliveranything.domain.user.profile.event;
+
+import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
+
+/**
+ * 라이더 배달 가능 상태(ON/OFF)가 변경되었을 때 발행되는 이벤트
+ *
+ * @param riderProfileId 라이더 프로필 ID
+ * @param toggleStatus   변경된 상태
+ */
+public record RiderToggleStatusChangedEvent(
+    Long riderProfileId,
+    RiderToggleStatus toggleStatus
+) {
+
+}
@@ -3,6 +3,7 @@ package com.deliveranything.domain.user.profile.repository;
 import com.deliveranything.domain.user.profile.entity.Profile;
 import com.deliveranything.domain.user.profile.enums.ProfileType;
 import com.deliveranything.domain.user.user.entity.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,6 +22,10 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
   // 사용자의 모든 프로필 조회
   List<Profile> findAllByUser(User user);
 
+  // 프로필 ID 목록으로 사용자까지 함께 조회 (집계 알림 발송 시 배치 단위 조회)
+  @Query("SELECT p FROM Profile p JOIN FETCH p.user WHERE p.id IN :ids")
+  List<Profile> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
   // 사용자ID와 프로필 타입으로 조회
   @Query("SELECT p FROM Profile p WHERE p.user.id = :userId AND p.type = :type AND p.isActive = true")
   Optional<Profile> findByUserIdAndType(@Param("userId") Long userId,
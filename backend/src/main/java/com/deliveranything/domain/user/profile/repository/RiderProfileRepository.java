@@ -1,11 +1,17 @@
 package com.deliveranything.domain.user.profile.repository;
 
 import com.deliveranything.domain.user.profile.entity.RiderProfile;
+import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RiderProfileRepository extends JpaRepository<RiderProfile, Long> {
 
   Optional<RiderProfile> findById(Long profileId);
 
+  @Query("SELECT r.id FROM RiderProfile r WHERE r.toggleStatus = :toggleStatus")
+  List<Long> findIdsByToggleStatus(@Param("toggleStatus") RiderToggleStatus toggleStatus);
 }
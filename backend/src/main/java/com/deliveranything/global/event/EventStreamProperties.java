@@ -0,0 +1,36 @@
+package com.deliveranything.global.event;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Redis Streams 이벤트 전송 설정 (event.stream.*)
+ *
+ * @param consumerName     consumer group 안에서 이 인스턴스를 식별하는 이름
+ * @param batchSize        XREADGROUP 한 번에 읽는 최대 건수
+ * @param pollTimeout      XREADGROUP BLOCK 시간
+ * @param claimMinIdle     이 시간 이상 ack 되지 않은 pending 이벤트를 다른 consumer 가 가져감
+ * @param claimBatchSize   한 번에 확인하는 pending 이벤트 수
+ * @param maxDeliveries    이 횟수 이상 실패한 이벤트는 dead-letter Stream 으로 이동
+ * @param defaultRetention 채널별 보관 건수 기본값 (MAXLEN ~)
+ * @param retention        채널별 보관 건수
+ */
+@ConfigurationProperties(prefix = "event.stream")
+public record EventStreamProperties(
+    String consumerName,
+    @DefaultValue("10") int batchSize,
+    @DefaultValue("2s") Duration pollTimeout,
+    @DefaultValue("1m") Duration claimMinIdle,
+    @DefaultValue("100") int claimBatchSize,
+    @DefaultValue("5") int maxDeliveries,
+    @DefaultValue("10000") long defaultRetention,
+    Map<String, Long> retention
+) {
+
+  public long retentionFor(String channel) {
+    return retention != null ? retention.getOrDefault(channel, defaultRetention)
+        : defaultRetention;
+  }
+}
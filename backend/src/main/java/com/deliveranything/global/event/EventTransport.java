@@ -0,0 +1,44 @@
+package com.deliveranything.global.event;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트 전송 계층
+ * <p>
+ * 같은 group 으로 구독한 인스턴스 중 하나만 이벤트를 처리한다. handler 가 예외를 던지면 구현체에 따라 재시도된다.
+ * <p>
+ * 같은 이벤트가 다시 전달될 수 있으므로 handler 는 멱등해야 한다. 재시도해도 결과가 같은 비즈니스 실패(CustomException)는 handler 안에서
+ * 처리하고, 그 외 예외만 던져 재시도한다.
+ */
+public interface EventTransport {
+
+  void publish(String channel, Object event);
+
+  // 이미 EventCodec 으로 직렬화된 이벤트 일괄 발행 (outbox relay, 파이프라인 1회)
+  void publishAll(List<SerializedEvent> events);
+
+  default <T> void subscribe(String channel, String group, Class<T> type,
+      EventHandler<T> handler) {
+    subscribeWithId(channel, group, type, (eventId, event) -> handler.handle(event));
+  }
+
+  // handler 에 메시지 id 도 전달 (같은 메시지가 재전달되면 같은 값, 내용이 같아도 다른 메시지면 다른 값)
+  <T> void subscribeWithId(String channel, String group, Class<T> type,
+      IdentifiedEventHandler<T> handler);
+
+  record SerializedEvent(String channel, byte[] payload) {
+
+  }
+
+  @FunctionalInterface
+  interface EventHandler<T> {
+
+    void handle(T event) throws Exception;
+  }
+
+  @FunctionalInterface
+  interface IdentifiedEventHandler<T> {
+
+    void handle(String eventId, T event) throws Exception;
+  }
+}
@@ -0,0 +1,80 @@
+package com.deliveranything.global.event;
+
+import com.deliveranything.global.event.codec.EventCodec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Pub/Sub 기반 전송 (event.transport=pubsub)
+ * <p>
+ * 모든 인스턴스가 모든 이벤트를 받으며 group 은 무시된다. 실패한 이벤트는 로그만 남기고 버린다.
+ * <p>
+ * Pub/Sub 메시지에는 id 가 없으므로 발행 시 페이로드 앞에 UUID 16바이트를 붙여 보내고, 수신 측은 이를 메시지 id 로 넘긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.transport", havingValue = "pubsub")
+public class RedisPubSubEventTransport implements EventTransport {
+
+  private static final int ID_LENGTH = 16;
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisMessageListenerContainer container;
+  private final EventCodec eventCodec;
+
+  @Override
+  public void publish(String channel, Object event) {
+    byte[] message = withId(eventCodec.encode(channel, event));
+    redisTemplate.execute((RedisCallback<Long>) connection ->
+        connection.publish(channel.getBytes(StandardCharsets.UTF_8), message));
+  }
+
+  @Override
+  public void publishAll(List<SerializedEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      events.forEach(event -> connection.publish(
+          event.channel().getBytes(StandardCharsets.UTF_8),
+          withId(event.payload())));
+      return null;
+    });
+  }
+
+  @Override
+  public <T> void subscribeWithId(String channel, String group, Class<T> type,
+      IdentifiedEventHandler<T> handler) {
+    container.addMessageListener((message, pattern) -> {
+      try {
+        ByteBuffer body = ByteBuffer.wrap(message.getBody());
+        String eventId = new UUID(body.getLong(), body.getLong()).toString();
+        byte[] payload = new byte[body.remaining()];
+        body.get(payload);
+        handler.handle(eventId, eventCodec.decode(payload, type));
+      } catch (Exception e) {
+        log.error("Failed to process {} from Redis", channel, e);
+      }
+    }, new ChannelTopic(channel));
+  }
+
+  private static byte[] withId(byte[] payload) {
+    UUID id = UUID.randomUUID();
+    return ByteBuffer.allocate(ID_LENGTH + payload.length)
+        .putLong(id.getMostSignificantBits())
+        .putLong(id.getLeastSignificantBits())
+        .put(payload)
+        .array();
+  }
+}
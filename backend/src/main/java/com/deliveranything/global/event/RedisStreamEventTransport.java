@@ -0,0 +1,244 @@
+package com.deliveranything.global.event;
+
+import com.deliveranything.global.event.codec.EventCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Streams + consumer group 기반 전송 (기본값, event.transport=stream)
+ * <p>
+ * - 채널별 Stream 키: events:{channel}, MAXLEN ~ retention 으로 보관, payload 는 EventCodec 으로 직렬화한 바이트
+ * <p>
+ * - group 당 한 consumer 만 이벤트를 받고, 처리 성공 시에만 XACK
+ * <p>
+ * - claim-min-idle 이상 ack 되지 않은 이벤트(처리 실패, 인스턴스 종료)는 주기적으로 XCLAIM 해 재처리하고, max-deliveries 를 넘기면
+ * events:{channel}:dead-letter 로 옮긴다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.transport", havingValue = "stream", matchIfMissing = true)
+@EnableConfigurationProperties(EventStreamProperties.class)
+public class RedisStreamEventTransport implements EventTransport {
+
+  private static final String KEY_PREFIX = "events:";
+  private static final String DEAD_LETTER_SUFFIX = ":dead-letter";
+  private static final String PAYLOAD_FIELD = "payload";
+
+  private final RedisTemplate<String, byte[]> redisTemplate;
+  private final EventCodec eventCodec;
+  private final EventStreamProperties properties;
+  private final StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container;
+  private final List<StreamSubscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+  public RedisStreamEventTransport(EventCodec eventCodec, EventStreamProperties properties,
+      RedisConnectionFactory connectionFactory) {
+    this.eventCodec = eventCodec;
+    this.properties = properties;
+
+    // Stream 필드 값은 바이트 그대로 (바이너리 페이로드를 문자열로 변환하지 않음)
+    this.redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(connectionFactory);
+    redisTemplate.setKeySerializer(RedisSerializer.string());
+    redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+    redisTemplate.setHashKeySerializer(RedisSerializer.string());
+    redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+    redisTemplate.afterPropertiesSet();
+
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("event-stream-");
+    executor.setVirtualThreads(true);
+    StreamMessageListenerContainerOptions<String, MapRecord<String, String, byte[]>> options =
+        StreamMessageListenerContainerOptions.builder()
+            .batchSize(properties.batchSize())
+            .pollTimeout(properties.pollTimeout())
+            .executor(executor)
+            .errorHandler(e -> log.warn("Event stream polling failed: {}", e.getMessage()))
+            .<String, byte[]>hashValueSerializer(RedisSerializer.byteArray())
+            .build();
+    this.container = StreamMessageListenerContainer.create(connectionFactory, options);
+  }
+
+  @PostConstruct
+  public void start() {
+    container.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    container.stop();
+  }
+
+  @Override
+  public void publish(String channel, Object event) {
+    String key = streamKey(channel);
+    byte[] payload = eventCodec.encode(channel, event);
+    redisTemplate.opsForStream()
+        .add(StreamRecords.newRecord().in(key).ofMap(Map.of(PAYLOAD_FIELD, payload)));
+    redisTemplate.opsForStream().trim(key, properties.retentionFor(channel), true);
+  }
+
+  @Override
+  public void publishAll(List<SerializedEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (SerializedEvent event : events) {
+        byte[] key = streamKey(event.channel()).getBytes(StandardCharsets.UTF_8);
+        connection.streamCommands().xAdd(StreamRecords.rawBytes(Map.of(
+                PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8), event.payload()))
+            .withStreamKey(key));
+        connection.streamCommands().xTrim(key, properties.retentionFor(event.channel()), true);
+      }
+      return null;
+    });
+  }
+
+  @Override
+  public <T> void subscribeWithId(String channel, String group, Class<T> type,
+      IdentifiedEventHandler<T> handler) {
+    StreamSubscription<T> subscription =
+        new StreamSubscription<>(channel, streamKey(channel), group, type, handler);
+    createGroupIfAbsent(subscription.key(), group);
+
+    container.receive(
+        Consumer.from(group, properties.consumerName()),
+        StreamOffset.create(subscription.key(), ReadOffset.lastConsumed()),
+        record -> process(subscription, record.getId(), record.getValue().get(PAYLOAD_FIELD)));
+    subscriptions.add(subscription);
+  }
+
+  // 오래 ack 되지 않은 pending 이벤트 재처리 / dead-letter 이동
+  @Scheduled(fixedDelayString = "${event.stream.claim-interval:30000}")
+  public void claimPending() {
+    for (StreamSubscription<?> subscription : subscriptions) {
+      try {
+        claimPending(subscription);
+      } catch (Exception e) {
+        log.warn("Pending event claim failed for {} ({}): {}", subscription.channel(),
+            subscription.group(), e.getMessage());
+      }
+    }
+  }
+
+  private void claimPending(StreamSubscription<?> subscription) {
+    PendingMessages pending = redisTemplate.opsForStream().pending(subscription.key(),
+        subscription.group(), Range.unbounded(), properties.claimBatchSize());
+    if (pending == null || pending.isEmpty()) {
+      return;
+    }
+
+    List<RecordId> retryIds = new ArrayList<>();
+    for (PendingMessage message : pending) {
+      if (message.getElapsedTimeSinceLastDelivery().compareTo(properties.claimMinIdle()) < 0) {
+        continue;
+      }
+      if (message.getTotalDeliveryCount() >= properties.maxDeliveries()) {
+        moveToDeadLetter(subscription, message.getId());
+      } else {
+        retryIds.add(message.getId());
+      }
+    }
+    if (retryIds.isEmpty()) {
+      return;
+    }
+
+    List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+        subscription.key(), subscription.group(), properties.consumerName(),
+        properties.claimMinIdle(), retryIds.toArray(RecordId[]::new));
+    if (claimed == null) {
+      return;
+    }
+    for (MapRecord<String, Object, Object> record : claimed) {
+      process(subscription, record.getId(), (byte[]) record.getValue().get(PAYLOAD_FIELD));
+    }
+  }
+
+  // 처리 성공 시에만 ack, 실패 시 pending 으로 남겨 claimPending 에서 재시도
+  private <T> void process(StreamSubscription<T> subscription, RecordId id, byte[] payload) {
+    try {
+      // 메시지 id = 채널 + Stream 레코드 id (claimPending 재처리 시에도 같은 값)
+      subscription.handler().handle(subscription.channel() + ":" + id.getValue(),
+          eventCodec.decode(payload, subscription.type()));
+      redisTemplate.opsForStream().acknowledge(subscription.key(), subscription.group(), id);
+    } catch (Exception e) {
+      log.error("Failed to process {} event {} (group {})", subscription.channel(), id,
+          subscription.group(), e);
+    }
+  }
+
+  private void moveToDeadLetter(StreamSubscription<?> subscription, RecordId id) {
+    List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+        .range(subscription.key(), Range.closed(id.getValue(), id.getValue()));
+    Map<String, byte[]> deadLetter = new HashMap<>();
+    deadLetter.put("sourceId", id.getValue().getBytes(StandardCharsets.UTF_8));
+    deadLetter.put("group", subscription.group().getBytes(StandardCharsets.UTF_8));
+    if (records != null && !records.isEmpty()) {
+      Object payload = records.get(0).getValue().get(PAYLOAD_FIELD);
+      deadLetter.put(PAYLOAD_FIELD, payload != null ? (byte[]) payload : new byte[0]);
+    }
+
+    String deadLetterKey = subscription.key() + DEAD_LETTER_SUFFIX;
+    redisTemplate.opsForStream()
+        .add(StreamRecords.newRecord().in(deadLetterKey).ofMap(deadLetter));
+    redisTemplate.opsForStream()
+        .trim(deadLetterKey, properties.retentionFor(subscription.channel()), true);
+    redisTemplate.opsForStream().acknowledge(subscription.key(), subscription.group(), id);
+    log.error("Moved {} event {} to dead-letter after {} deliveries (group {})",
+        subscription.channel(), id, properties.maxDeliveries(), subscription.group());
+  }
+
+  // Stream 이 없으면 함께 생성 (MKSTREAM), 이미 group 이 있으면 무시
+  private void createGroupIfAbsent(String key, String group) {
+    try {
+      redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+          .xGroupCreate(key.getBytes(StandardCharsets.UTF_8), group, ReadOffset.latest(), true));
+    } catch (DataAccessException e) {
+      String message = e.getMostSpecificCause().getMessage();
+      if (message == null || !message.contains("BUSYGROUP")) {
+        throw e;
+      }
+    }
+  }
+
+  private static String streamKey(String channel) {
+    return KEY_PREFIX + channel;
+  }
+
+  private record StreamSubscription<T>(
+      String channel,
+      String key,
+      String group,
+      Class<T> type,
+      IdentifiedEventHandler<T> handler
+  ) {
+
+  }
+}
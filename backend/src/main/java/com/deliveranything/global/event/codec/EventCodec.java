@@ -0,0 +1,55 @@
+package com.deliveranything.global.event.codec;
+
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 페이로드 인코딩 / 디코딩
+ * <p>
+ * 인코딩 형식은 채널별 설정(event.codec.channels)을 따르고, 디코딩은 Smile 헤더(":)\n")로 형식을 판별한다. 따라서 채널 형식을 바꿔도
+ * 이미 쌓여 있는 이벤트나 이전 버전 인스턴스가 보낸 이벤트를 그대로 읽을 수 있다. Smile 은 JSON 과 같은 ObjectMapper 설정(모듈, 날짜
+ * 형식)을 쓰므로 필드 추가 / 삭제 호환성도 JSON 과 같다.
+ */
+@Component
+@EnableConfigurationProperties(EventCodecProperties.class)
+public class EventCodec {
+
+  private final ObjectMapper objectMapper;
+  private final ObjectMapper smileMapper;
+  private final EventCodecProperties properties;
+
+  public EventCodec(ObjectMapper objectMapper, EventCodecProperties properties) {
+    this.objectMapper = objectMapper;
+    this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    this.properties = properties;
+  }
+
+  // Smile 헤더 3바이트 + 버전 / 설정 1바이트 (JSON 은 ':' 로 시작할 수 없음)
+  public static boolean isBinary(byte[] payload) {
+    return payload.length >= 4
+        && payload[0] == SmileConstants.HEADER_BYTE_1
+        && payload[1] == SmileConstants.HEADER_BYTE_2
+        && payload[2] == SmileConstants.HEADER_BYTE_3;
+  }
+
+  public byte[] encode(String channel, Object event) {
+    ObjectMapper mapper =
+        properties.formatFor(channel) == EventFormat.BINARY ? smileMapper : objectMapper;
+    try {
+      return mapper.writeValueAsBytes(event);
+    } catch (JsonProcessingException e) {
+      throw new CustomException(ErrorCode.REDIS_MESSAGE_PROCESSING_ERROR);
+    }
+  }
+
+  public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+    return (isBinary(payload) ? smileMapper : objectMapper).readValue(payload, type);
+  }
+}
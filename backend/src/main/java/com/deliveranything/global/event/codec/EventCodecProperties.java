@@ -0,0 +1,22 @@
+package com.deliveranything.global.event.codec;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 이벤트 페이로드 직렬화 설정 (event.codec.*)
+ *
+ * @param defaultFormat 채널별 설정이 없을 때 사용하는 형식
+ * @param channels      채널별 형식
+ */
+@ConfigurationProperties(prefix = "event.codec")
+public record EventCodecProperties(
+    @DefaultValue("json") EventFormat defaultFormat,
+    Map<String, EventFormat> channels
+) {
+
+  public EventFormat formatFor(String channel) {
+    return channels != null ? channels.getOrDefault(channel, defaultFormat) : defaultFormat;
+  }
+}
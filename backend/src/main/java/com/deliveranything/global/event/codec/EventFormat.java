@@ -0,0 +1,6 @@
+package com.deliveranything.global.event.codec;
+
+public enum EventFormat {
+  JSON,   // Jackson JSON (기존 형식)
+  BINARY  // Jackson Smile (같은 ObjectMapper 설정, 필드 이름 back-reference 로 JSON 보다 작음)
+}
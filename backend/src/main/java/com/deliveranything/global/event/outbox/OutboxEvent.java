@@ -0,0 +1,31 @@
+package com.deliveranything.global.event.outbox;
+
+import com.deliveranything.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 도메인 변경과 같은 트랜잭션에 기록되는 발행 대기 이벤트 (발행 후 삭제)
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent extends BaseEntity {
+
+  @Column(nullable = false, length = 100)
+  private String channel;
+
+  @Lob
+  @Column(nullable = false)
+  private byte[] payload; // EventCodec 으로 직렬화한 이벤트 (채널 설정에 따라 JSON 또는 바이너리)
+
+  @Builder
+  public OutboxEvent(String channel, byte[] payload) {
+    this.channel = channel;
+    this.payload = payload;
+  }
+}
@@ -0,0 +1,25 @@
+package com.deliveranything.global.event.outbox;
+
+import com.deliveranything.global.event.codec.EventCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발행할 이벤트를 outbox 테이블에 기록
+ * <p>
+ * 호출한 트랜잭션에 참여하므로 도메인 변경이 커밋될 때만 함께 저장된다. 실제 발행은 OutboxRelay 가 비동기로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final EventCodec eventCodec;
+
+  public void record(String channel, Object event) {
+    outboxEventRepository.save(OutboxEvent.builder()
+        .channel(channel)
+        .payload(eventCodec.encode(channel, event))
+        .build());
+  }
+}
@@ -0,0 +1,23 @@
+package com.deliveranything.global.event.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  // 오래된 순으로 조회, 다른 인스턴스가 잡고 있는 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT o FROM OutboxEvent o ORDER BY o.id")
+  List<OutboxEvent> findBatchForRelay(Pageable pageable);
+
+  // 발행 지연 측정용 (가장 오래된 대기 이벤트)
+  Optional<OutboxEvent> findFirstByOrderByIdAsc();
+}
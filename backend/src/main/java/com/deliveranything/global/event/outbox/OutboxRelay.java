@@ -0,0 +1,110 @@
+package com.deliveranything.global.event.outbox;
+
+import com.deliveranything.global.event.EventTransport;
+import com.deliveranything.global.event.EventTransport.SerializedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 테이블의 이벤트를 배치 단위로 꺼내 EventTransport 로 발행 (전용 스레드)
+ * <p>
+ * 발행과 삭제를 한 트랜잭션에서 처리하므로 발행 실패 시 행이 남아 다음 주기에 재시도된다(at-least-once). 여러 인스턴스가 동시에 돌아도 SKIP
+ * LOCKED 로 서로 다른 행을 가져간다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final EventTransport eventTransport;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Duration interval;
+
+  private final ScheduledExecutorService relayExecutor = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("outbox-relay").daemon().factory());
+  private final AtomicLong lagMillis = new AtomicLong();
+  private final Counter publishedCounter;
+
+  public OutboxRelay(OutboxEventRepository outboxEventRepository, EventTransport eventTransport,
+      TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+      @Value("${event.outbox.batch-size:200}") int batchSize,
+      @Value("${event.outbox.relay-interval:200ms}") Duration interval) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.eventTransport = eventTransport;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.interval = interval;
+    this.publishedCounter = Counter.builder("event.outbox.published")
+        .description("outbox 에서 발행된 이벤트 수")
+        .register(meterRegistry);
+    Gauge.builder("event.outbox.lag", lagMillis, AtomicLong::get)
+        .description("발행 대기 중인 가장 오래된 outbox 이벤트의 경과 시간 (ms)")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    relayExecutor.scheduleWithFixedDelay(this::relay, interval.toMillis(), interval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    relayExecutor.shutdown();
+  }
+
+  private void relay() {
+    try {
+      // 가득 찬 배치가 나오면 쌓인 이벤트가 더 있으므로 바로 이어서 처리
+      Integer relayed;
+      do {
+        relayed = transactionTemplate.execute(status -> relayBatch());
+      } while (relayed != null && relayed >= batchSize);
+    } catch (Exception e) {
+      log.warn("Outbox relay failed: {}", e.getMessage());
+    } finally {
+      updateLag();
+    }
+  }
+
+  private int relayBatch() {
+    List<OutboxEvent> batch =
+        outboxEventRepository.findBatchForRelay(PageRequest.of(0, batchSize));
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    eventTransport.publishAll(batch.stream()
+        .map(event -> new SerializedEvent(event.getChannel(), event.getPayload()))
+        .toList());
+    outboxEventRepository.deleteAllInBatch(batch);
+    publishedCounter.increment(batch.size());
+    return batch.size();
+  }
+
+  private void updateLag() {
+    try {
+      lagMillis.set(outboxEventRepository.findFirstByOrderByIdAsc()
+          .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+          .orElse(0L));
+    } catch (Exception e) {
+      log.debug("Outbox lag update failed: {}", e.getMessage());
+    }
+  }
+}
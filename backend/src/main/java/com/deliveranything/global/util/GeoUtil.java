@@ -1,7 +1,11 @@
 package com.deliveranything.global.util;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 public class GeoUtil {
   private static final double EARTH_RADIUS_KM = 6371;
+  private static final String GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
 
   public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
     double dLat = Math.toRadians(lat2 - lat1);
@@ -11,4 +15,118 @@ public class GeoUtil {
     double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
     return EARTH_RADIUS_KM * c;
   }
-}
\ No newline at end of file
+
+  // 직선 거리 / 평균 속도 기반 예상 소요 시간 (분 단위)
+  // 도로 우회를 감안해 직선 거리에 보정 계수(detourFactor)를 곱함
+  public static double estimateMinutes(double lat1, double lng1, double lat2, double lng2,
+      double speedKmh, double detourFactor) {
+    double distanceKm = distanceKm(lat1, lng1, lat2, lng2) * detourFactor;
+    return distanceKm / speedKmh * 60.0;
+  }
+
+  // 위경도 -> geohash 문자열 (precision 자리)
+  // precision 5 ≒ 4.9km, 6 ≒ 1.2km, 7 ≒ 150m 크기의 셀
+  public static String geohash(double lat, double lng, int precision) {
+    double[] latRange = {-90.0, 90.0};
+    double[] lngRange = {-180.0, 180.0};
+    StringBuilder hash = new StringBuilder(precision);
+    boolean evenBit = true;
+    int bit = 0;
+    int ch = 0;
+
+    while (hash.length() < precision) {
+      if (evenBit) {
+        double mid = (lngRange[0] + lngRange[1]) / 2;
+        if (lng >= mid) {
+          ch = (ch << 1) | 1;
+          lngRange[0] = mid;
+        } else {
+          ch = ch << 1;
+          lngRange[1] = mid;
+        }
+      } else {
+        double mid = (latRange[0] + latRange[1]) / 2;
+        if (lat >= mid) {
+          ch = (ch << 1) | 1;
+          latRange[0] = mid;
+        } else {
+          ch = ch << 1;
+          latRange[1] = mid;
+        }
+      }
+      evenBit = !evenBit;
+
+      if (++bit == 5) {
+        hash.append(GEOHASH_BASE32.charAt(ch));
+        bit = 0;
+        ch = 0;
+      }
+    }
+    return hash.toString();
+  }
+
+  // geohash 셀 중심 좌표 {lat, lng}
+  public static double[] geohashCenter(String hash) {
+    double[] latRange = {-90.0, 90.0};
+    double[] lngRange = {-180.0, 180.0};
+    boolean evenBit = true;
+
+    for (int i = 0; i < hash.length(); i++) {
+      int ch = GEOHASH_BASE32.indexOf(hash.charAt(i));
+      for (int mask = 16; mask > 0; mask >>= 1) {
+        double[] range = evenBit ? lngRange : latRange;
+        double mid = (range[0] + range[1]) / 2;
+        if ((ch & mask) != 0) {
+          range[0] = mid;
+        } else {
+          range[1] = mid;
+        }
+        evenBit = !evenBit;
+      }
+    }
+    return new double[]{(latRange[0] + latRange[1]) / 2, (lngRange[0] + lngRange[1]) / 2};
+  }
+
+  // geohash 셀 중심에서 가장 먼 꼭짓점까지의 거리 (km)
+  // 셀 안의 어느 좌표든 중심에서 이 거리 이내에 있음
+  public static double geohashHalfDiagonalKm(String hash) {
+    int totalBits = hash.length() * 5;
+    double cellLat = 180.0 / Math.pow(2, totalBits / 2);
+    double cellLng = 360.0 / Math.pow(2, totalBits - totalBits / 2);
+    double[] center = geohashCenter(hash);
+    return Math.max(
+        distanceKm(center[0], center[1], center[0] + cellLat / 2, center[1] + cellLng / 2),
+        distanceKm(center[0], center[1], center[0] - cellLat / 2, center[1] + cellLng / 2));
+  }
+
+  // 중심 좌표 기준 반경(km)을 덮는 geohash 셀 목록 (precision 자리)
+  // 바운딩 박스를 셀 크기 간격으로 샘플링해 겹치는 셀을 모두 수집
+  public static Set<String> geohashesCovering(double lat, double lng, double radiusKm,
+      int precision) {
+    double latDelta = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+    double lngDelta = Math.toDegrees(
+        radiusKm / (EARTH_RADIUS_KM * Math.max(Math.cos(Math.toRadians(lat)), 1e-6)));
+    double minLat = Math.max(lat - latDelta, -90.0);
+    double maxLat = Math.min(lat + latDelta, 90.0);
+    double minLng = Math.max(lng - lngDelta, -180.0);
+    double maxLng = Math.min(lng + lngDelta, 180.0);
+
+    int totalBits = precision * 5;
+    double cellLat = 180.0 / Math.pow(2, totalBits / 2);
+    double cellLng = 360.0 / Math.pow(2, totalBits - totalBits / 2);
+
+    Set<String> cells = new LinkedHashSet<>();
+    for (double y = minLat; ; y = Math.min(y + cellLat, maxLat)) {
+      for (double x = minLng; ; x = Math.min(x + cellLng, maxLng)) {
+        cells.add(geohash(y, x, precision));
+        if (x >= maxLng) {
+          break;
+        }
+      }
+      if (y >= maxLat) {
+        break;
+      }
+    }
+    return cells;
+  }
+}
@@ -0,0 +1,223 @@
+package com.deliveranything.domain.product.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.product.product.repository.ProductRepository;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.domain.product.stock.scheduler.StockReservationScheduler;
+import com.deliveranything.domain.product.stock.service.StockReservationService;
+import com.deliveranything.domain.product.stock.service.StockService;
+import com.deliveranything.domain.store.store.repository.StoreRepository;
+import com.deliveranything.global.exception.CustomException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 한 상품에 주문이 몰릴 때 재고 차감 처리량 / 충돌률 (스레드 1 ~ 256)
+ * <p>
+ * - DB: 기존 낙관적 락 경로 (Stock.decreaseQuantity + @Version, 충돌 시 재시도)
+ * <p>
+ * - REDIS: StockService.changeStockByOrder (Redis 카운터)
+ * <p>
+ * 실제 DB / Redis 를 쓰므로 기본 테스트에서는 건너뛴다. 지정한 매장에 벤치마크용 상품을 만들고 끝나면 상품과 Redis 카운터를 지운다.
+ * 실행: ./gradlew test --tests '*StockContentionBenchmarkTest' -Dstock.benchmark.store-id=1
+ * (-Dstock.benchmark.duration-ms=3000)
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@EnabledIfSystemProperty(named = "stock.benchmark.store-id", matches = "\\d+")
+class StockContentionBenchmarkTest {
+
+  private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64, 128, 256};
+  private static final int INITIAL_QUANTITY = 1_000_000_000;
+  private static final int MAX_RETRIES = 3;
+
+  private enum Mode {DB, REDIS}
+
+  private record Result(Mode mode, int threads, long succeeded, long attempts, long conflicts,
+                        long failed, long elapsedMillis) {
+
+    double throughput() {
+      return succeeded * 1000.0 / elapsedMillis;
+    }
+
+    double conflictRate() {
+      return attempts == 0 ? 0 : (double) conflicts / attempts;
+    }
+  }
+
+  // 스케줄러 비활성화 (측정 중 write-back 이 벤치마크 상품의 stocks 행을 건드리지 않도록)
+  @MockitoBean
+  private StockReservationScheduler stockReservationScheduler;
+
+  @Autowired
+  private StockService stockService;
+
+  @Autowired
+  private StockReservationService stockReservationService;
+
+  @Autowired
+  private StockRepository stockRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private StoreRepository storeRepository;
+
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final Long storeId = Long.getLong("stock.benchmark.store-id");
+  private final long durationMillis = Long.getLong("stock.benchmark.duration-ms", 3_000);
+
+  private Long productId;
+
+  @BeforeEach
+  void setUp() {
+    productId = transactionTemplate.execute(status -> productRepository.save(Product.builder()
+        .store(storeRepository.getReferenceById(storeId))
+        .name("stock-benchmark-" + UUID.randomUUID())
+        .price(1_000)
+        .imageUrl("")
+        .initialStock(INITIAL_QUANTITY)
+        .build()).getId());
+  }
+
+  @AfterEach
+  void tearDown() {
+    redisTemplate.delete("stock:available:" + productId);
+    redisTemplate.opsForSet().remove("stock:dirty", String.valueOf(productId));
+    transactionTemplate.executeWithoutResult(status -> productRepository.deleteById(productId));
+  }
+
+  @Test
+  void compareStockModes() throws InterruptedException {
+    List<Result> results = new ArrayList<>();
+    for (Mode mode : Mode.values()) {
+      prepare(mode);
+      long succeeded = 0;
+      for (int threads : THREADS) {
+        Result result = run(mode, threads);
+        assertTrue(result.succeeded() > 0, mode + " x" + threads + " 차감 성공 0건");
+        succeeded += result.succeeded();
+        results.add(result);
+      }
+      // 성공한 차감 수만큼만 줄었는지 (유실 / 중복 차감 없음)
+      assertEquals(INITIAL_QUANTITY - succeeded, remaining(mode), mode + " 남은 수량");
+    }
+
+    StringBuilder table = new StringBuilder(String.format("%n%-6s %7s %12s %10s %10s %8s",
+        "mode", "threads", "ops/s", "attempts", "conflict", "failed"));
+    results.forEach(result -> table.append(String.format("%n%-6s %7d %12.1f %10d %9.2f%% %8d",
+        result.mode(), result.threads(), result.throughput(), result.attempts(),
+        result.conflictRate() * 100, result.failed())));
+    log.info("Stock contention benchmark:{}", table);
+  }
+
+  private void prepare(Mode mode) {
+    transactionTemplate.executeWithoutResult(status ->
+        stockRepository.updateQuantityByProductId(productId, INITIAL_QUANTITY));
+    stockReservationService.overwrite(productId, INITIAL_QUANTITY);
+  }
+
+  private long remaining(Mode mode) {
+    if (mode == Mode.DB) {
+      return stockRepository.getByProductId(productId).getQuantity();
+    }
+    return stockReservationService.getAvailable(productId);
+  }
+
+  private Result run(Mode mode, int threads) throws InterruptedException {
+    LongAdder succeeded = new LongAdder();
+    LongAdder attempts = new LongAdder();
+    LongAdder conflicts = new LongAdder();
+    LongAdder failed = new LongAdder();
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(threads);
+    long elapsedMillis;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int i = 0; i < threads; i++) {
+        executor.execute(() -> {
+          try {
+            start.await();
+            long deadline = System.currentTimeMillis() + durationMillis;
+            while (System.currentTimeMillis() < deadline) {
+              if (decrease(mode, attempts, conflicts)) {
+                succeeded.increment();
+              } else {
+                failed.increment();
+              }
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            done.countDown();
+          }
+        });
+      }
+      long startedAt = System.currentTimeMillis();
+      start.countDown();
+      done.await();
+      elapsedMillis = System.currentTimeMillis() - startedAt;
+    } finally {
+      executor.shutdownNow();
+    }
+    return new Result(mode, threads, succeeded.sum(), attempts.sum(), conflicts.sum(),
+        failed.sum(), elapsedMillis);
+  }
+
+  // 1개 차감, 재시도까지 실패하면 false
+  private boolean decrease(Mode mode, LongAdder attempts, LongAdder conflicts) {
+    if (mode != Mode.DB) {
+      attempts.increment();
+      try {
+        stockService.changeStockByOrder(productId, -1);
+        return true;
+      } catch (CustomException e) {
+        return false;
+      }
+    }
+    for (int retry = 0; retry < MAX_RETRIES; retry++) {
+      attempts.increment();
+      try {
+        transactionTemplate.executeWithoutResult(status -> {
+          Stock stock = stockRepository.getByProductId(productId);
+          stock.decreaseQuantity(1);
+        });
+        return true;
+      } catch (OptimisticLockingFailureException e) {
+        conflicts.increment();
+      } catch (CustomException e) {
+        return false;
+      }
+    }
+    return false;
+  }
+}
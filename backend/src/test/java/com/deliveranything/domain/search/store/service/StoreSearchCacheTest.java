@@ -0,0 +1,182 @@
+package com.deliveranything.domain.search.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deliveranything.domain.search.store.document.StoreDocument;
+import com.deliveranything.domain.search.store.dto.StoreSearchRequest;
+import com.deliveranything.domain.search.store.dto.StoreSearchResult;
+import com.deliveranything.domain.search.store.enums.StoreSearchSortType;
+import com.deliveranything.domain.search.store.service.StoreSearchCache.CachedPage;
+import com.deliveranything.global.common.CursorPageResponse;
+import com.deliveranything.global.util.GeoUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+class StoreSearchCacheTest {
+
+  private static final String INVALIDATION_CHANNEL = "store-search-cache-invalidation";
+  private static final int PRECISION = 6;
+
+  // 강남역 / 부산역, 검색 결과는 각 위치의 매장 하나
+  private static final double SEOUL_LAT = 37.4979;
+  private static final double SEOUL_LNG = 127.0276;
+  private static final long SEOUL_STORE_ID = 1L;
+  private static final double BUSAN_LAT = 35.1151;
+  private static final double BUSAN_LNG = 129.0422;
+  private static final long BUSAN_STORE_ID = 2L;
+
+  private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  private final RedisMessageListenerContainer container =
+      mock(RedisMessageListenerContainer.class);
+  private final StoreSearchCache cache = new StoreSearchCache(redisTemplate, container,
+      new ObjectMapper(), new SimpleMeterRegistry(), true, false, PRECISION,
+      Duration.ofSeconds(30), 100);
+
+  // search 가 실제로 호출된 요청 (캐시 미스)
+  private final List<StoreSearchRequest> searched = new ArrayList<>();
+  private MessageListener invalidationListener;
+
+  @BeforeEach
+  void setUp() {
+    cache.subscribe();
+    ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+    verify(container).addMessageListener(listener.capture(), any(Topic.class));
+    invalidationListener = listener.getValue();
+  }
+
+  @Test
+  @DisplayName("같은 셀의 요청은 셀 중심 좌표에서 반경을 셀 반대각선만큼 넓혀 한 번만 검색하고 결과를 공유한다")
+  void sameCellSharesEntry() {
+    String cell = GeoUtil.geohash(SEOUL_LAT, SEOUL_LNG, PRECISION);
+    double[] center = GeoUtil.geohashCenter(cell);
+    double otherLat = center[0] + 0.0001;
+    double otherLng = center[1] - 0.0001;
+    assertEquals(cell, GeoUtil.geohash(otherLat, otherLng, PRECISION));
+
+    CachedPage first = cache.get(request(SEOUL_LAT, SEOUL_LNG, null, null), this::search);
+    CachedPage second = cache.get(request(otherLat, otherLng, null, null), this::search);
+
+    assertSame(first, second);
+    assertEquals(1, searched.size());
+    assertEquals(center[0], (double) searched.get(0).lat());
+    assertEquals(center[1], (double) searched.get(0).lng());
+    assertEquals(7.0 + GeoUtil.geohashHalfDiagonalKm(cell), (double) searched.get(0).distanceKm());
+  }
+
+  @Test
+  @DisplayName("검색어는 대소문자 / 공백을 정규화해 키로 쓰고, 정렬 / 페이지 토큰 / 셀이 다르면 다른 키다")
+  void keyNormalizesTextAndSeparatesConditions() {
+    cache.get(request(SEOUL_LAT, SEOUL_LNG, " Chicken   Pizza ", null), this::search);
+    cache.get(request(SEOUL_LAT, SEOUL_LNG, "chicken pizza", null), this::search);
+    assertEquals(1, searched.size());
+
+    cache.get(request(SEOUL_LAT, SEOUL_LNG, "chicken pizza", StoreSearchSortType.RATING),
+        this::search);
+    assertEquals(2, searched.size());
+
+    cache.get(new StoreSearchRequest(SEOUL_LAT, SEOUL_LNG, null, "chicken pizza", null, null,
+        "token", null), this::search);
+    assertEquals(3, searched.size());
+
+    cache.get(request(BUSAN_LAT, BUSAN_LNG, "chicken pizza", null), this::search);
+    assertEquals(4, searched.size());
+  }
+
+  @Test
+  @DisplayName("색인된 매장 위치 주변 셀의 항목만 무효화한다")
+  void evictsCellsAroundIndexedStore() {
+    cache.get(request(SEOUL_LAT, SEOUL_LNG, null, null), this::search);
+    cache.get(request(BUSAN_LAT, BUSAN_LNG, null, null), this::search);
+
+    // 강남역에서 약 1km 떨어진 곳에 새 매장 (어느 캐시 항목에도 없는 매장)
+    cache.invalidate(List.of(store(99L, SEOUL_LAT + 0.01, SEOUL_LNG)), List.of(99L));
+    deliverInvalidation();
+
+    cache.get(request(SEOUL_LAT, SEOUL_LNG, null, null), this::search);
+    cache.get(request(BUSAN_LAT, BUSAN_LNG, null, null), this::search);
+    assertEquals(3, searched.size());
+    assertEquals(SEOUL_LAT, (double) searched.get(2).lat(), 0.01);
+  }
+
+  @Test
+  @DisplayName("삭제 / 이전된 매장이 포함된 항목은 셀과 관계없이 무효화한다")
+  void evictsEntriesContainingStore() {
+    cache.get(request(SEOUL_LAT, SEOUL_LNG, null, null), this::search);
+    cache.get(request(BUSAN_LAT, BUSAN_LNG, null, null), this::search);
+
+    cache.invalidate(List.of(), List.of(BUSAN_STORE_ID));
+    deliverInvalidation();
+
+    cache.get(request(SEOUL_LAT, SEOUL_LNG, null, null), this::search);
+    cache.get(request(BUSAN_LAT, BUSAN_LNG, null, null), this::search);
+    assertEquals(3, searched.size());
+    assertEquals(BUSAN_LAT, (double) searched.get(2).lat(), 0.01);
+  }
+
+  @Test
+  @DisplayName("무효화 발행에 실패하면 이 노드의 항목이라도 바로 지운다")
+  void evictsLocallyWhenPublishFails() {
+    when(redisTemplate.convertAndSend(eq(INVALIDATION_CHANNEL), any()))
+        .thenThrow(new RedisConnectionFailureException("connection refused"));
+    cache.get(request(SEOUL_LAT, SEOUL_LNG, null, null), this::search);
+
+    cache.invalidate(List.of(), List.of(SEOUL_STORE_ID));
+
+    cache.get(request(SEOUL_LAT, SEOUL_LNG, null, null), this::search);
+    assertEquals(2, searched.size());
+  }
+
+  // 마지막으로 발행된 무효화 메시지를 Redis Pub/Sub 을 거친 것처럼 리스너에 전달
+  private void deliverInvalidation() {
+    ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+    verify(redisTemplate, atLeastOnce())
+        .convertAndSend(eq(INVALIDATION_CHANNEL), message.capture());
+    invalidationListener.onMessage(new DefaultMessage(
+        INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        ((String) message.getValue()).getBytes(StandardCharsets.UTF_8)), null);
+  }
+
+  // 요청 좌표가 서울 쪽이면 서울 매장, 아니면 부산 매장 하나를 돌려주는 검색
+  private CursorPageResponse<StoreSearchResult> search(StoreSearchRequest request) {
+    searched.add(request);
+    long storeId = request.lat() > 36 ? SEOUL_STORE_ID : BUSAN_STORE_ID;
+    return new CursorPageResponse<>(
+        List.of(new StoreSearchResult(store(storeId, request.lat(), request.lng()), 0.0)),
+        null, false);
+  }
+
+  private static StoreSearchRequest request(double lat, double lng, String searchText,
+      StoreSearchSortType sort) {
+    return new StoreSearchRequest(lat, lng, null, searchText, null, null, null, sort);
+  }
+
+  private static StoreDocument store(long id, double lat, double lng) {
+    return StoreDocument.builder()
+        .id(id)
+        .name("store-" + id)
+        .location(new GeoPoint(lat, lng))
+        .build();
+  }
+}
@@ -0,0 +1,97 @@
+package com.deliveranything.global.event.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.order.event.sse.seller.OrderPaidForSellerEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class EventCodecTest {
+
+  private static final String BINARY_CHANNEL = "order-paid-for-seller-event";
+  private static final String JSON_CHANNEL = "store-events";
+
+  // Spring Boot 기본 ObjectMapper 와 같은 설정 (모르는 필드 무시, JavaTimeModule)
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final EventCodec codec = new EventCodec(objectMapper,
+      new EventCodecProperties(EventFormat.JSON, Map.of(BINARY_CHANNEL, EventFormat.BINARY)));
+
+  private final OrderPaidForSellerEvent event = new OrderPaidForSellerEvent(184_223L,
+      List.of(new OrderItemInfo(1_001L, 2L, 12_900L), new OrderItemInfo(1_002L, 1L, 25_800L)),
+      5_021L, "서울특별시 강남구 테헤란로 123, 4층", null, 51_600L);
+
+  // 필드를 하나 덜 가진 이전 버전 이벤트 / 하나 더 가진 다음 버전 이벤트
+  record ItemV1(Long productId, Long quantity) {
+
+  }
+
+  record ItemV2(Long productId, Long quantity, Long price, String note) {
+
+  }
+
+  @Test
+  @DisplayName("binary 채널은 Smile 로 인코딩되고 같은 값으로 디코딩된다")
+  void binaryRoundTrip() throws IOException {
+    byte[] payload = codec.encode(BINARY_CHANNEL, event);
+
+    assertTrue(EventCodec.isBinary(payload));
+    assertTrue(payload.length < objectMapper.writeValueAsBytes(event).length);
+    assertEquals(event, codec.decode(payload, OrderPaidForSellerEvent.class));
+  }
+
+  @Test
+  @DisplayName("json 채널은 기존과 같은 JSON 으로 인코딩된다")
+  void jsonRoundTrip() throws IOException {
+    byte[] payload = codec.encode(JSON_CHANNEL, event);
+
+    assertFalse(EventCodec.isBinary(payload));
+    assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(event)),
+        objectMapper.readTree(payload));
+    assertEquals(event, codec.decode(payload, OrderPaidForSellerEvent.class));
+  }
+
+  @Test
+  @DisplayName("채널 형식과 관계없이 페이로드 형식을 판별해 디코딩한다 (형식 전환 중 혼재)")
+  void decodesEitherFormat() throws IOException {
+    byte[] json = objectMapper.writeValueAsBytes(event);
+    byte[] binary = codec.encode(BINARY_CHANNEL, event);
+
+    assertEquals(event, codec.decode(json, OrderPaidForSellerEvent.class));
+    assertEquals(event, codec.decode(binary, OrderPaidForSellerEvent.class));
+    assertEquals(objectMapper.readTree(json), codec.decode(binary, JsonNode.class));
+  }
+
+  @Test
+  @DisplayName("필드가 추가 / 삭제된 이벤트도 양방향으로 읽을 수 있다")
+  void fieldEvolution() throws IOException {
+    byte[] older = codec.encode(BINARY_CHANNEL, new ItemV1(1L, 2L));
+    OrderItemInfo fromOlder = codec.decode(older, OrderItemInfo.class);
+    assertEquals(1L, fromOlder.productId());
+    assertEquals(2L, fromOlder.quantity());
+    assertNull(fromOlder.price());
+
+    byte[] newer = codec.encode(BINARY_CHANNEL, new ItemV2(1L, 2L, 3_000L, "포장"));
+    assertEquals(new OrderItemInfo(1L, 2L, 3_000L), codec.decode(newer, OrderItemInfo.class));
+  }
+
+  @Test
+  @DisplayName("헤더보다 짧은 페이로드는 바이너리로 보지 않고 파싱 오류를 낸다")
+  void shortPayload() {
+    assertFalse(EventCodec.isBinary(new byte[]{':'}));
+    assertFalse(EventCodec.isBinary(new byte[]{':', ')', '\n'}));
+    assertThrows(IOException.class, () -> codec.decode(new byte[]{':'}, JsonNode.class));
+    assertThrows(IOException.class,
+        () -> codec.decode(new byte[]{(byte) 0xEB}, OrderItemInfo.class));
+  }
+}
@@ -0,0 +1,109 @@
+package com.deliveranything.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoUtilTest {
+
+  private static final double EARTH_RADIUS_KM = 6371;
+
+  // {lat, lng}: 강남역, 부산역, 적도 / 본초자오선 교차점, 남반구, 고위도
+  private static final double[][] POINTS = {
+      {37.4979, 127.0276},
+      {35.1151, 129.0422},
+      {0.0001, 0.0001},
+      {-33.8688, 151.2093},
+      {64.1466, -21.9426}
+  };
+
+  @Test
+  @DisplayName("geohash 는 알려진 값과 같다")
+  void geohashKnownValue() {
+    assertEquals("u4pruydqqvj", GeoUtil.geohash(57.64911, 10.40744, 11));
+    assertEquals("ezs42", GeoUtil.geohash(42.6, -5.6, 5));
+  }
+
+  @Test
+  @DisplayName("셀 중심 좌표를 다시 인코딩하면 같은 셀이고, 원래 좌표와 셀 크기 절반 이내로 떨어져 있다")
+  void geohashCenterRoundTrip() {
+    for (int precision = 1; precision <= 9; precision++) {
+      int totalBits = precision * 5;
+      double cellLat = 180.0 / Math.pow(2, totalBits / 2);
+      double cellLng = 360.0 / Math.pow(2, totalBits - totalBits / 2);
+
+      for (double[] point : POINTS) {
+        String hash = GeoUtil.geohash(point[0], point[1], precision);
+        double[] center = GeoUtil.geohashCenter(hash);
+
+        assertEquals(hash, GeoUtil.geohash(center[0], center[1], precision));
+        assertEquals(point[0], center[0], cellLat / 2);
+        assertEquals(point[1], center[1], cellLng / 2);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("셀 안의 좌표는 셀 중심에서 반대각선 거리 이내에 있다")
+  void geohashHalfDiagonalCoversCell() {
+    for (int precision = 4; precision <= 8; precision++) {
+      for (double[] point : POINTS) {
+        String hash = GeoUtil.geohash(point[0], point[1], precision);
+        double[] center = GeoUtil.geohashCenter(hash);
+        assertTrue(GeoUtil.distanceKm(center[0], center[1], point[0], point[1])
+            <= GeoUtil.geohashHalfDiagonalKm(hash));
+      }
+    }
+    // precision 6 셀의 반대각선은 서울 위도에서 약 0.57km
+    assertEquals(0.57, GeoUtil.geohashHalfDiagonalKm(GeoUtil.geohash(37.4979, 127.0276, 6)), 0.01);
+  }
+
+  @Test
+  @DisplayName("반경 경계 위의 좌표가 속한 셀은 모두 덮는 셀 목록에 포함된다")
+  void geohashesCoveringIncludesRadiusEdge() {
+    double radiusKm = 10;
+    int precision = 6;
+
+    for (double[] point : POINTS) {
+      Set<String> cells = GeoUtil.geohashesCovering(point[0], point[1], radiusKm, precision);
+      assertTrue(cells.contains(GeoUtil.geohash(point[0], point[1], precision)));
+
+      for (int bearing = 0; bearing < 360; bearing += 5) {
+        double[] edge = destination(point[0], point[1], bearing, radiusKm);
+        assertEquals(radiusKm, GeoUtil.distanceKm(point[0], point[1], edge[0], edge[1]), 1e-6);
+        assertTrue(cells.contains(GeoUtil.geohash(edge[0], edge[1], precision)),
+            "bearing " + bearing + " from " + point[0] + "," + point[1]);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("반경보다 셀 하나 이상 떨어진 좌표의 셀은 포함하지 않는다")
+  void geohashesCoveringExcludesFarCells() {
+    double[] seoul = POINTS[0];
+    Set<String> cells = GeoUtil.geohashesCovering(seoul[0], seoul[1], 10, 6);
+
+    for (int bearing = 0; bearing < 360; bearing += 45) {
+      double[] far = destination(seoul[0], seoul[1], bearing, 15);
+      assertFalse(cells.contains(GeoUtil.geohash(far[0], far[1], 6)), "bearing " + bearing);
+    }
+  }
+
+  // 시작 좌표에서 방위각(도) 방향으로 distanceKm 떨어진 대권 좌표 {lat, lng}
+  private static double[] destination(double lat, double lng, double bearing, double distanceKm) {
+    double angular = distanceKm / EARTH_RADIUS_KM;
+    double phi1 = Math.toRadians(lat);
+    double theta = Math.toRadians(bearing);
+    double phi2 = Math.asin(Math.sin(phi1) * Math.cos(angular)
+        + Math.cos(phi1) * Math.sin(angular) * Math.cos(theta));
+    double lambda2 = Math.toRadians(lng) + Math.atan2(
+        Math.sin(theta) * Math.sin(angular) * Math.cos(phi1),
+        Math.cos(angular) - Math.sin(phi1) * Math.sin(phi2));
+    double lng2 = (Math.toDegrees(lambda2) + 540) % 360 - 180;
+    return new double[]{Math.toDegrees(phi2), lng2};
+  }
+}
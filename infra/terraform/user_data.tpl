@@ -74,6 +74,15 @@ docker run -d \
   ${npm_image}
 
 # --- Elasticsearch ---
+# 매장 / 상품 검색 한국어 분석기(nori) 플러그인을 포함한 이미지 빌드
+# (실행 중인 컨테이너에 설치하면 컨테이너를 다시 만들 때 사라지므로 이미지에 포함)
+mkdir -p /dockerProjects/elasticsearch/image
+cat > /dockerProjects/elasticsearch/image/Dockerfile <<'DOCKERFILE'
+FROM ${elasticsearch_image}
+RUN bin/elasticsearch-plugin install --batch analysis-nori
+DOCKERFILE
+docker build -t elasticsearch-nori /dockerProjects/elasticsearch/image
+
 docker rm -f elasticsearch || true
 docker run -d \
   --name elasticsearch \
@@ -86,7 +95,7 @@ docker run -d \
   -e "xpack.security.enabled=false" \
   -v /dockerProjects/elasticsearch/volumes/data:/usr/share/elasticsearch/data \
   -u 1000:1000 \
-  ${elasticsearch_image}
+  elasticsearch-nori
 
 # --- Redis ---
 docker run -d \
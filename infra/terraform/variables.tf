@@ -143,7 +143,7 @@ variable "mysql_image" {
 }
 
 variable "elasticsearch_image" {
-  description = "Elasticsearch 이미지"
+  description = "Elasticsearch 기본 이미지 (nori 플러그인을 설치한 이미지를 이 위에 빌드)"
   type        = string
   default     = "docker.elastic.co/elasticsearch/elasticsearch:8.18.5"
 }